@@ -0,0 +1,163 @@
+package de.piggidragon.elementalrealms.client.rendering.tasks;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.culling.Frustum;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Matrix4f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RenderManager} with 10k registered render and tick tasks: the per-frame render
+ * pass (with and without culling bounds), the per-tick pass, membership checks, and
+ * add/remove churn. The {@code contended} group runs the render pass while another thread
+ * keeps registering and removing tasks, which used to block the render thread on the
+ * registry lock.
+ *
+ * <p>Uses the package-private overloads that take the budget and max distance directly,
+ * so no client config has to be loaded.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderManagerBenchmark {
+
+    private static final double MAX_DISTANCE = 128.0;
+
+    @Param("10000")
+    public int tasks;
+
+    /**
+     * Whether render tasks report bounds, i.e. go through distance and frustum culling.
+     */
+    @Param({"false", "true"})
+    public boolean culled;
+
+    private RenderTask[] renderTasks;
+    private TickTask[] tickTasks;
+    private Frustum frustum;
+    private PoseStack poseStack;
+    private int probe;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        SplittableRandom random = new SplittableRandom(42);
+        renderTasks = new RenderTask[tasks];
+        tickTasks = new TickTask[tasks];
+        for (int i = 0; i < tasks; i++) {
+            AABB bounds = null;
+            if (culled) {
+                // Spread around the camera so some are behind it, some out of range.
+                double x = random.nextDouble(-192, 192);
+                double y = random.nextDouble(-32, 32);
+                double z = random.nextDouble(-192, 192);
+                bounds = new AABB(x, y, z, x + 1, y + 1, z + 1);
+            }
+            renderTasks[i] = new NoOpRenderTask(bounds, blackhole);
+            tickTasks[i] = new NoOpTickTask(blackhole);
+            RenderManager.addRenderTask(renderTasks[i]);
+            RenderManager.addTickTask(tickTasks[i]);
+        }
+
+        Matrix4f projection = new Matrix4f().perspective((float) Math.toRadians(70.0), 16f / 9f, 0.05f, 512f);
+        frustum = new Frustum(new Matrix4f(), projection);
+        frustum.prepare(0.0, 0.0, 0.0);
+        poseStack = new PoseStack();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (int i = 0; i < tasks; i++) {
+            RenderManager.requestRemoveRenderTask(renderTasks[i]);
+            RenderManager.requestRemoveTickTask(tickTasks[i]);
+        }
+        RenderManager.removeRequestedTasks();
+    }
+
+    @Benchmark
+    public void renderPass() {
+        RenderManager.executeAll(0.5f, poseStack, null, frustum, Vec3.ZERO, MAX_DISTANCE);
+    }
+
+    @Benchmark
+    public void tickPass() {
+        RenderManager.tickAll(Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public boolean hasTickTask() {
+        probe = (probe + 1) % tasks;
+        return RenderManager.hasTickTask(tickTasks[probe]);
+    }
+
+    /**
+     * Registers one extra task and removes it again, as a short-lived effect does.
+     */
+    @Benchmark
+    public void addRemoveChurn(Blackhole blackhole) {
+        TickTask task = new NoOpTickTask(blackhole);
+        RenderManager.addTickTask(task);
+        RenderManager.requestRemoveTickTask(task);
+        RenderManager.removeRequestedTasks();
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedRenderPass() {
+        RenderManager.executeAll(0.5f, poseStack, null, frustum, Vec3.ZERO, MAX_DISTANCE);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedProducer(Blackhole blackhole) {
+        // Stands in for effects being started and retired from other threads; each call
+        // swaps the render snapshot twice while the render pass iterates.
+        RenderTask task = new NoOpRenderTask(null, blackhole);
+        RenderManager.addRenderTask(task);
+        RenderManager.requestRemoveRenderTask(task);
+        RenderManager.removeRequestedTasks();
+    }
+
+    private record NoOpRenderTask(AABB bounds, Blackhole blackhole) implements RenderTask {
+        @Override
+        public void render(float partialTicks, PoseStack poseStack, MultiBufferSource bufferSource) {
+            blackhole.consume(partialTicks);
+        }
+
+        @Override
+        public AABB getBounds() {
+            return bounds;
+        }
+    }
+
+    private record NoOpTickTask(Blackhole blackhole) implements TickTask {
+        @Override
+        public void tick() {
+            blackhole.consume(this);
+        }
+    }
+}
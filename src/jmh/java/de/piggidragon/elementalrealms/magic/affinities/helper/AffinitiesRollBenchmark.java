@@ -0,0 +1,82 @@
+package de.piggidragon.elementalrealms.magic.affinities.helper;
+
+import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityType;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Roll throughput of the bitmask picker ({@link AffinitiesRoll#roll}) against the
+ * list-based one it replaced ({@code LegacyAffinitiesRoll}, from the test sources), plus
+ * the tier checks that used to stream the affinity map. {@code AffinitiesRollTest} checks
+ * that both pickers produce identical rolls.
+ *
+ * <p>{@code defaults} uses the shipped {@code roll} config; {@code greedy} makes stage 2
+ * and every stage 3 iteration fire, so candidate picking dominates.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AffinitiesRollBenchmark {
+
+    @Param({"defaults", "greedy"})
+    public String config;
+
+    private AffinitiesRoll.Params params;
+    private XoroshiroRandomSource random;
+    private AffinityState rolledState;
+    private Map<Affinity, Integer> rolledMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        params = config.equals("greedy")
+                ? new AffinitiesRoll.Params(100, 80, 50, 100, 90, 80, 12, 1.0)
+                : new AffinitiesRoll.Params(10, 80, 15, 50, 50, 80, 5, 3.0);
+        random = new XoroshiroRandomSource(42L);
+        rolledState = AffinitiesRoll.roll(random, AffinityState.EMPTY, params);
+        rolledMap = rolledState.asMap();
+    }
+
+    @Benchmark
+    public AffinityState bitmaskRoll() {
+        return AffinitiesRoll.roll(random, AffinityState.EMPTY, params);
+    }
+
+    @Benchmark
+    public Map<Affinity, Integer> listRoll() {
+        return LegacyAffinitiesRoll.roll(random, AffinityState.EMPTY, params);
+    }
+
+    @Benchmark
+    public boolean bitmaskHasEternal() {
+        return rolledState.hasEternal();
+    }
+
+    /**
+     * The {@code hasEternalAffinity} check as it was: a stream over the affinity map.
+     */
+    @Benchmark
+    public boolean streamHasEternal() {
+        return rolledMap.entrySet().stream()
+                .anyMatch(entry -> entry.getKey().getType() == AffinityType.ETERNAL
+                        && entry.getValue() >= 100);
+    }
+}
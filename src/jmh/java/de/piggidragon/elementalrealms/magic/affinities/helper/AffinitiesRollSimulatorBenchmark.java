@@ -0,0 +1,47 @@
+package de.piggidragon.elementalrealms.magic.affinities.helper;
+
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock time of a full {@link AffinitiesRollSimulator#simulate} run, the work behind
+ * {@code /elementalrealms affinities roll simulate}. Runs on the common fork-join pool, so
+ * results scale with the machine's core count; pass {@code -p rolls=...} to match the
+ * command's argument.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AffinitiesRollSimulatorBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int rolls;
+
+    private AffinitiesRoll.Params params;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        params = AffinitiesRollSimulatorMain.DEFAULTS;
+    }
+
+    @Benchmark
+    public AffinitiesRollSimulator.Histogram simulate() {
+        return AffinitiesRollSimulator.simulate(rolls, 42L, AffinityState.EMPTY, params);
+    }
+}
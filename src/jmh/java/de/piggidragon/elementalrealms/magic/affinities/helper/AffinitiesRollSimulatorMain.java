@@ -0,0 +1,45 @@
+package de.piggidragon.elementalrealms.magic.affinities.helper;
+
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
+
+/**
+ * Command-line entry point for {@link AffinitiesRollSimulator}: prints the same report as
+ * {@code /elementalrealms affinities roll simulate} without starting a server.
+ *
+ * <p>Usage: {@code <rolls> [seed] [deviantPartialChance deviantMax partialDeviantWeight
+ * continueStart continueDecay elementalMax maxIterations slope]}. Without the roll
+ * parameters the shipped {@code roll} config defaults are used. {@code AffinityConfig}
+ * is not read here, since loading it touches the game's config directory.</p>
+ */
+public final class AffinitiesRollSimulatorMain {
+
+    /**
+     * Defaults of the {@code roll} section in {@code config/elementalrealms/affinities.json}.
+     */
+    static final AffinitiesRoll.Params DEFAULTS = new AffinitiesRoll.Params(10, 80, 15, 50, 50, 80, 5, 3.0);
+
+    private AffinitiesRollSimulatorMain() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1 && args.length != 2 && args.length != 10) {
+            System.err.println("Usage: <rolls> [seed] [deviantPartialChance deviantMax partialDeviantWeight "
+                    + "continueStart continueDecay elementalMax maxIterations slope]");
+            System.exit(2);
+        }
+        int rolls = Integer.parseInt(args[0]);
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        AffinitiesRoll.Params params = args.length == 10
+                ? new AffinitiesRoll.Params(
+                        Integer.parseInt(args[2]), Integer.parseInt(args[3]), Integer.parseInt(args[4]),
+                        Integer.parseInt(args[5]), Integer.parseInt(args[6]), Integer.parseInt(args[7]),
+                        Integer.parseInt(args[8]), Double.parseDouble(args[9]))
+                : DEFAULTS;
+
+        long start = System.nanoTime();
+        AffinitiesRollSimulator.Histogram histogram = AffinitiesRollSimulator.simulate(rolls, seed, AffinityState.EMPTY, params);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Affinity roll simulation, " + params);
+        histogram.report(seed, millis).forEach(System.out::println);
+    }
+}
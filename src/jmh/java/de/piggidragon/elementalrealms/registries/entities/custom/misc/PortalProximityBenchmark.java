@@ -0,0 +1,192 @@
+package de.piggidragon.elementalrealms.registries.entities.custom.misc;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.AbortableIterationConsumer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.entity.EntityAccess;
+import net.minecraft.world.level.entity.EntityInLevelCallback;
+import net.minecraft.world.level.entity.EntitySectionStorage;
+import net.minecraft.world.level.entity.Visibility;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * One server tick of the player check for 1,000 idle portals (no player inside any of
+ * them), the part of {@link PortalEntity#tick} the proximity gate replaced.
+ *
+ * <p>A real {@code PortalEntity} needs a running {@code ServerLevel}, so the two paths are
+ * reproduced on the structures they use: {@code sectionQuery} runs the old per-portal
+ * {@code getEntitiesOfClass} lookup (a fresh result list plus an
+ * {@link EntitySectionStorage} box query), {@code proximityGate} walks the player list
+ * with the squared-distance pre-filter and {@link PortalEntity#PLAYER_PROXIMITY_MARGIN}.
+ * Portals and players are spread over a 1024-block square, players kept out of every
+ * portal's reach.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PortalProximityBenchmark {
+
+    private static final double AREA = 1024.0;
+    private static final float PORTAL_WIDTH = 1.0f;
+    private static final float PORTAL_HEIGHT = 2.0f;
+
+    @Param("1000")
+    public int portals;
+
+    @Param({"1", "8", "32"})
+    public int players;
+
+    private Vec3[] portalPositions;
+    private AABB[] portalBoxes;
+    private List<FakePlayer> playerList;
+    private EntitySectionStorage<FakePlayer> sections;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        portalPositions = new Vec3[portals];
+        portalBoxes = new AABB[portals];
+        for (int i = 0; i < portals; i++) {
+            Vec3 pos = new Vec3(random.nextDouble(AREA), 64.0, random.nextDouble(AREA));
+            portalPositions[i] = pos;
+            portalBoxes[i] = new AABB(pos.x - PORTAL_WIDTH / 2, pos.y, pos.z - PORTAL_WIDTH / 2,
+                    pos.x + PORTAL_WIDTH / 2, pos.y + PORTAL_HEIGHT, pos.z + PORTAL_WIDTH / 2);
+        }
+
+        double reach = PortalEntity.PLAYER_PROXIMITY_MARGIN + PORTAL_WIDTH;
+        playerList = new ArrayList<>(players);
+        sections = new EntitySectionStorage<>(FakePlayer.class, sectionPos -> Visibility.TICKING);
+        while (playerList.size() < players) {
+            Vec3 pos = new Vec3(random.nextDouble(AREA), 64.0, random.nextDouble(AREA));
+            if (nearAnyPortal(pos, reach * 2)) continue;
+            FakePlayer player = new FakePlayer(playerList.size(), pos);
+            playerList.add(player);
+            sections.getOrCreateSection(SectionPos.asLong(player.blockPosition())).add(player);
+        }
+    }
+
+    @Benchmark
+    public void sectionQuery(Blackhole blackhole) {
+        for (AABB box : portalBoxes) {
+            List<FakePlayer> found = new ArrayList<>();
+            sections.getEntities(box, player -> {
+                found.add(player);
+                return AbortableIterationConsumer.Continuation.CONTINUE;
+            });
+            blackhole.consume(found);
+        }
+    }
+
+    @Benchmark
+    public void proximityGate(Blackhole blackhole) {
+        double reach = PortalEntity.PLAYER_PROXIMITY_MARGIN + PORTAL_WIDTH;
+        double reachSqr = reach * reach;
+        for (int i = 0; i < portalPositions.length; i++) {
+            Vec3 portal = portalPositions[i];
+            for (FakePlayer player : playerList) {
+                if (portal.distanceToSqr(player.position) > reachSqr) continue;
+                blackhole.consume(player.getBoundingBox().intersects(portalBoxes[i]));
+            }
+        }
+    }
+
+    private boolean nearAnyPortal(Vec3 pos, double distance) {
+        double distanceSqr = distance * distance;
+        for (Vec3 portal : portalPositions) {
+            if (portal.distanceToSqr(pos) <= distanceSqr) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Just enough of an entity for {@link EntitySectionStorage}: an id, a position and a
+     * player-sized box.
+     */
+    private static final class FakePlayer implements EntityAccess {
+        private final int id;
+        private final UUID uuid;
+        private final Vec3 position;
+        private final AABB box;
+
+        private FakePlayer(int id, Vec3 position) {
+            this.id = id;
+            this.uuid = new UUID(0L, id);
+            this.position = position;
+            this.box = new AABB(position.x - 0.3, position.y, position.z - 0.3,
+                    position.x + 0.3, position.y + 1.8, position.z + 0.3);
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+
+        @Override
+        public UUID getUUID() {
+            return uuid;
+        }
+
+        @Override
+        public BlockPos blockPosition() {
+            return BlockPos.containing(position);
+        }
+
+        @Override
+        public AABB getBoundingBox() {
+            return box;
+        }
+
+        @Override
+        public void setLevelCallback(EntityInLevelCallback levelCallback) {
+        }
+
+        @Override
+        public Stream<? extends EntityAccess> getSelfAndPassengers() {
+            return Stream.of(this);
+        }
+
+        @Override
+        public Stream<? extends EntityAccess> getPassengersAndSelf() {
+            return Stream.of(this);
+        }
+
+        @Override
+        public void setRemoved(Entity.RemovalReason removalReason) {
+        }
+
+        @Override
+        public boolean shouldBeSaved() {
+            return false;
+        }
+
+        @Override
+        public boolean isAlwaysTicking() {
+            return false;
+        }
+    }
+}
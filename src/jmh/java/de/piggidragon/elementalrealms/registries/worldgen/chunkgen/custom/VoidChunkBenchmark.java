@@ -0,0 +1,135 @@
+package de.piggidragon.elementalrealms.registries.worldgen.chunkgen.custom;
+
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.RegistrationInfo;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeGenerationSettings;
+import net.minecraft.world.level.biome.BiomeSpecialEffects;
+import net.minecraft.world.level.biome.Biomes;
+import net.minecraft.world.level.biome.MobSpawnSettings;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-chunk cost of voiding an out-of-bounds chunk: the section-aware
+ * {@link BoundedChunkGenerator#generateVoidChunk} against the previous per-block
+ * {@code ChunkAccess.setBlockState(new BlockPos(...))} loop, reproduced in
+ * {@link #legacyVoid}.
+ *
+ * <p>{@code empty} is a fresh proto chunk, which is what {@code fillFromNoise} sees in
+ * practice; {@code terrain} has stone below y=64 to cover chunks that already hold
+ * blocks. Each invocation gets a new chunk, built outside the timed region.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VoidChunkBenchmark {
+
+    private static final LevelHeightAccessor HEIGHT = LevelHeightAccessor.create(-64, 384);
+    private static final int TERRAIN_TOP = 64;
+
+    @Param({"empty", "terrain"})
+    public String contents;
+
+    private Registry<Biome> biomes;
+    private ProtoChunk chunk;
+
+    @Setup(Level.Trial)
+    public void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        // ProtoChunk only needs the registry to hand each section its default biome.
+        MappedRegistry<Biome> registry = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        registry.register(Biomes.PLAINS, new Biome.BiomeBuilder()
+                .hasPrecipitation(false)
+                .temperature(0.5f)
+                .downfall(0.5f)
+                .specialEffects(new BiomeSpecialEffects.Builder()
+                        .fogColor(0).waterColor(0).waterFogColor(0).skyColor(0).build())
+                .mobSpawnSettings(MobSpawnSettings.EMPTY)
+                .generationSettings(BiomeGenerationSettings.EMPTY)
+                .build(), RegistrationInfo.BUILT_IN);
+        registry.freeze();
+        biomes = registry;
+    }
+
+    @Setup(Level.Invocation)
+    public void newChunk() {
+        chunk = new ProtoChunk(ChunkPos.ZERO, UpgradeData.EMPTY, HEIGHT, biomes, null);
+        if (contents.equals("terrain")) {
+            BlockState stone = Blocks.STONE.defaultBlockState();
+            LevelChunkSection[] sections = chunk.getSections();
+            for (int i = 0; i < sections.length; i++) {
+                if (chunk.getSectionYFromSectionIndex(i) * 16 >= TERRAIN_TOP) break;
+                for (int y = 0; y < 16; y++) {
+                    for (int z = 0; z < 16; z++) {
+                        for (int x = 0; x < 16; x++) {
+                            sections[i].setBlockState(x, y, z, stone);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public ChunkAccess sectionAware() {
+        BoundedChunkGenerator.generateVoidChunk(chunk);
+        return chunk;
+    }
+
+    @Benchmark
+    public ChunkAccess perBlock() {
+        legacyVoid(chunk);
+        return chunk;
+    }
+
+    /**
+     * The void path as it was before the section-aware rewrite.
+     */
+    private static void legacyVoid(ChunkAccess chunk) {
+        BlockState air = Blocks.AIR.defaultBlockState();
+        int minY = chunk.getMinBuildHeight();
+        int maxY = chunk.getMaxBuildHeight();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                for (int y = minY; y < maxY; y++) {
+                    chunk.setBlockState(new BlockPos(x, y, z), air, true);
+                }
+            }
+        }
+        Heightmap.primeHeightmaps(chunk, Set.of(Heightmap.Types.values()));
+    }
+}
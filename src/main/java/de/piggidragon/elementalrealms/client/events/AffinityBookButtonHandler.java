@@ -14,10 +14,7 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.ScreenEvent;
 import org.jetbrains.annotations.NotNull;
-
-import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Map;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Adds the affinity book button next to the recipe book on container screens,
@@ -26,16 +23,14 @@ import java.util.Map;
 @EventBusSubscriber(modid = ElementalRealms.MODID, value = Dist.CLIENT)
 public final class AffinityBookButtonHandler {
 
-    private static final Map<AbstractContainerScreen<?>, AffinityBookButton> affinityButtons = new HashMap<>();
-    private static final Map<AbstractContainerScreen<?>, AffinityBookOverlay> affinityOverlays = new HashMap<>();
-    private static final Map<AbstractContainerScreen<?>, ImageButton> recipeBookButtons = new HashMap<>();
     private static final int BUTTON_X_OFFSET = 104 + 24;
     private static final int RECIPE_BUTTON_X_OFFSET = 104;
     private static final int BUTTON_Y_OFFSET = 61;
     private static final int AFFINITY_BOOK_SHIFT = 77;
     private static final int INVENTORY_WIDTH = 176;
     private static boolean shouldAffinityBookBeOpen = false;
-    private static Field leftPosField = null;
+    // Only one container screen is open at a time, so its state is a single field.
+    private static ScreenState current;
 
     private AffinityBookButtonHandler() {
     }
@@ -50,11 +45,7 @@ public final class AffinityBookButtonHandler {
         }
         if (recipeBook == null) return;
 
-        findAndStoreRecipeBookButton(containerScreen);
-
         AffinityBookOverlay overlay = new AffinityBookOverlay(containerScreen.getMinecraft().player);
-        affinityOverlays.put(containerScreen, overlay);
-
         if (shouldAffinityBookBeOpen) {
             overlay.setVisible(true);
             if (recipeBook.isVisible()) {
@@ -64,49 +55,40 @@ public final class AffinityBookButtonHandler {
         }
 
         AffinityBookButton affinityButton = createAffinityButton(containerScreen, recipeBook, overlay);
-        affinityButtons.put(containerScreen, affinityButton);
+        current = new ScreenState(containerScreen, recipeBook, overlay, affinityButton, findRecipeBookButton(containerScreen));
         event.addListener(affinityButton);
     }
 
     @SubscribeEvent
     public static void onScreenRender(ScreenEvent.Render.Pre event) {
-        if (!(event.getScreen() instanceof AbstractContainerScreen<?> containerScreen)) return;
-
-        int leftPos = containerScreen.getGuiLeft();
-        int topPos = containerScreen.getGuiTop();
+        ScreenState state = current;
+        if (state == null || state.screen() != event.getScreen()) return;
 
-        AffinityBookButton affinityButton = affinityButtons.get(containerScreen);
-        if (affinityButton != null) {
-            affinityButton.setPosition(leftPos + BUTTON_X_OFFSET, topPos + BUTTON_Y_OFFSET);
-        }
+        int leftPos = state.screen().getGuiLeft();
+        int topPos = state.screen().getGuiTop();
 
-        ImageButton recipeButton = recipeBookButtons.get(containerScreen);
-        if (recipeButton != null) {
-            recipeButton.setPosition(leftPos + RECIPE_BUTTON_X_OFFSET, topPos + BUTTON_Y_OFFSET);
+        state.affinityButton().setPosition(leftPos + BUTTON_X_OFFSET, topPos + BUTTON_Y_OFFSET);
+        if (state.recipeButton() != null) {
+            state.recipeButton().setPosition(leftPos + RECIPE_BUTTON_X_OFFSET, topPos + BUTTON_Y_OFFSET);
         }
 
-        if (event.getScreen() instanceof InventoryScreen inventoryScreen) {
-            AffinityBookOverlay overlay = affinityOverlays.get(containerScreen);
-            RecipeBookComponent recipeBook = inventoryScreen.getRecipeBookComponent();
-            if (overlay != null && recipeBook != null && overlay.isVisible() && recipeBook.isVisible()) {
-                overlay.setVisible(false);
-                shouldAffinityBookBeOpen = false;
-            }
+        if (state.overlay().isVisible() && state.recipeBook().isVisible()) {
+            state.overlay().setVisible(false);
+            shouldAffinityBookBeOpen = false;
         }
     }
 
     @SubscribeEvent
     public static void onScreenRenderPost(ScreenEvent.Render.Post event) {
-        if (!(event.getScreen() instanceof AbstractContainerScreen<?> containerScreen)) return;
-
-        AffinityBookOverlay overlay = affinityOverlays.get(containerScreen);
-        if (overlay == null || !overlay.isVisible()) return;
+        ScreenState state = current;
+        if (state == null || state.screen() != event.getScreen() || !state.overlay().isVisible()) return;
 
-        int overlayX = containerScreen.getGuiLeft() - overlay.getWidth();
+        AffinityBookOverlay overlay = state.overlay();
+        int overlayX = state.screen().getGuiLeft() - overlay.getWidth();
         overlay.render(
                 event.getGuiGraphics(),
                 overlayX,
-                containerScreen.getGuiTop(),
+                state.screen().getGuiTop(),
                 event.getMouseX(),
                 event.getMouseY(),
                 event.getPartialTick()
@@ -115,21 +97,26 @@ public final class AffinityBookButtonHandler {
 
     @SubscribeEvent
     public static void onScreenClose(ScreenEvent.Closing event) {
-        if (!(event.getScreen() instanceof AbstractContainerScreen<?> containerScreen)) return;
-        affinityButtons.remove(containerScreen);
-        affinityOverlays.remove(containerScreen);
-        recipeBookButtons.remove(containerScreen);
+        ScreenState state = current;
+        if (state != null && state.screen() == event.getScreen()) {
+            current = null;
+        }
     }
 
-    private static void findAndStoreRecipeBookButton(AbstractContainerScreen<?> containerScreen) {
+    /**
+     * Finds the vanilla recipe book toggle by its sprites ({@code ImageButton.sprites} is
+     * widened by the access transformer), so image buttons other mods add to the inventory
+     * are never mistaken for it.
+     */
+    private static @Nullable ImageButton findRecipeBookButton(AbstractContainerScreen<?> containerScreen) {
         for (Renderable renderable : containerScreen.renderables) {
-            if (renderable instanceof ImageButton imgButton && !recipeBookButtons.containsValue(imgButton)) {
-                recipeBookButtons.put(containerScreen, imgButton);
+            if (renderable instanceof ImageButton imgButton && imgButton.sprites == RecipeBookComponent.RECIPE_BUTTON_SPRITES) {
                 ElementalRealms.LOGGER.debug("Found recipe book button at ({}, {})",
                         imgButton.getX(), imgButton.getY());
-                return;
+                return imgButton;
             }
         }
+        return null;
     }
 
     private static @NotNull AffinityBookButton createAffinityButton(
@@ -150,23 +137,22 @@ public final class AffinityBookButtonHandler {
     }
 
     /**
-     * Reflectively shifts {@code AbstractContainerScreen.leftPos} so the inventory
-     * panel centers next to the affinity book overlay when it's open.
+     * Shifts {@code AbstractContainerScreen.leftPos} (public through the access transformer)
+     * so the inventory panel centers next to the affinity book overlay when it's open.
      */
     private static void shiftInventoryForAffinityBook(AbstractContainerScreen<?> containerScreen, boolean shift) {
         if (!(containerScreen instanceof EffectRenderingInventoryScreen<?>)) return;
 
-        try {
-            if (leftPosField == null) {
-                leftPosField = AbstractContainerScreen.class.getDeclaredField("leftPos");
-                leftPosField.setAccessible(true);
-            }
+        int originalLeftPos = (containerScreen.width - INVENTORY_WIDTH) / 2;
+        containerScreen.leftPos = originalLeftPos + (shift ? AFFINITY_BOOK_SHIFT : 0);
+    }
 
-            int originalLeftPos = (containerScreen.width - INVENTORY_WIDTH) / 2;
-            int newLeftPos = originalLeftPos + (shift ? AFFINITY_BOOK_SHIFT : 0);
-            leftPosField.setInt(containerScreen, newLeftPos);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            ElementalRealms.LOGGER.error("Failed to shift inventory for affinity book", e);
-        }
+    private record ScreenState(
+            AbstractContainerScreen<?> screen,
+            RecipeBookComponent recipeBook,
+            AffinityBookOverlay overlay,
+            AffinityBookButton affinityButton,
+            @Nullable ImageButton recipeButton
+    ) {
     }
 }
@@ -10,12 +10,16 @@ import net.minecraft.client.renderer.MultiBufferSource;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.CustomizeGuiOverlayEvent;
 import net.neoforged.neoforge.client.event.EntityRenderersEvent;
 import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
 import net.neoforged.neoforge.event.tick.LevelTickEvent;
 
+import java.util.Locale;
+
 /**
- * Client-only entity renderer registration and per-frame render/tick task dispatch.
+ * Client-only entity renderer registration, per-frame render/tick task dispatch, and the
+ * render/tick task lines on the F3 screen.
  */
 @EventBusSubscriber(modid = ElementalRealms.MODID, value = Dist.CLIENT)
 public final class ClientModEvents {
@@ -39,7 +43,22 @@ public final class ClientModEvents {
         PoseStack poseStack = event.getPoseStack();
         float partialTick = event.getPartialTick().getGameTimeDeltaTicks();
 
-        RenderManager.executeAll(partialTick, poseStack, bufferSource);
+        RenderManager.executeAll(partialTick, poseStack, bufferSource,
+                event.getFrustum(), event.getCamera().getPosition());
+    }
+
+    @SubscribeEvent
+    public static void onDebugText(CustomizeGuiOverlayEvent.DebugText event) {
+        RenderManager.CullStats stats = RenderManager.lastFrameStats();
+        event.getRight().add("ElementalRealms render tasks: " + stats.rendered() + " drawn, "
+                + stats.frustumCulled() + " frustum-culled, " + stats.distanceCulled() + " distance-culled");
+
+        RenderManager.TickStats tickStats = RenderManager.tickStats();
+        event.getRight().add("ElementalRealms tick tasks: " + tickStats.overrunTicks() + " overruns, "
+                + tickStats.deferredTasks() + " deferred");
+        tickStats.latencies().forEach((priority, latency) -> event.getRight().add(String.format(Locale.ROOT,
+                " %s p50/p95/p99: %.2f/%.2f/%.2f ms", priority.name().toLowerCase(Locale.ROOT),
+                latency.p50Nanos() / 1e6, latency.p95Nanos() / 1e6, latency.p99Nanos() / 1e6)));
     }
 
     @SubscribeEvent
@@ -2,6 +2,7 @@ package de.piggidragon.elementalrealms.client.gui.screens.affinitybook;
 
 import de.piggidragon.elementalrealms.ElementalRealms;
 import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
 import de.piggidragon.elementalrealms.magic.affinities.AffinityType;
 import de.piggidragon.elementalrealms.registries.attachments.ModAttachments;
 import net.minecraft.client.Minecraft;
@@ -11,10 +12,14 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * Overlay panel rendered next to the inventory; lists the player's affinities and completion.
+ * Rows (components, colours, offsets) are computed once per attachment change, so a frame
+ * is only the background blit and the string draws.
  */
 public class AffinityBookOverlay {
 
@@ -40,6 +45,7 @@ public class AffinityBookOverlay {
     private final Minecraft minecraft;
     private final Font font;
     private boolean visible = false;
+    private Layout layout;
 
     public AffinityBookOverlay(Player player) {
         this.player = player;
@@ -72,67 +78,73 @@ public class AffinityBookOverlay {
 
         graphics.blit(BACKGROUND, x - 2, y, 1, 1, WIDTH, HEIGHT, 256, 256);
 
-        Component title = Component.translatable("affinity_book.elementalrealms.title");
-        int titleX = x + (WIDTH - this.font.width(title)) / 2 - 2;
-        graphics.drawString(this.font, title, titleX, y + TITLE_Y_OFFSET, TEXT_COLOR_WHITE, false);
+        Layout layout = getLayout();
+        graphics.drawString(this.font, layout.title(), x + layout.titleX(), y + TITLE_Y_OFFSET, TEXT_COLOR_WHITE, false);
 
-        renderAffinities(graphics, x, y, this.player);
+        int textX = x + TEXT_X_OFFSET;
+        for (Row row : layout.rows()) {
+            int rowY = y + row.y();
+            graphics.drawString(this.font, row.name(), textX, rowY, row.nameColor(), row.completed());
+            graphics.drawString(this.font, row.percent(), textX + PERCENT_X_OFFSET, rowY, row.percentColor(), false);
+        }
     }
 
-    private void renderAffinities(GuiGraphics graphics, int baseX, int baseY, Player player) {
-        int startY = baseY + FIRST_GROUP_Y_OFFSET;
-        int xOffset = baseX + TEXT_X_OFFSET;
+    /**
+     * Returns the cached layout, rebuilding it only when the {@code AFFINITIES} attachment
+     * or the game language changed. The attachment value is an immutable
+     * {@link AffinityState} replaced on every sync, so a new instance is the change signal.
+     */
+    private Layout getLayout() {
+        AffinityState state = this.player.getData(ModAttachments.AFFINITIES.get());
+        String language = this.minecraft.getLanguageManager().getSelected();
+        Layout layout = this.layout;
+        if (layout == null || layout.state() != state || !layout.language().equals(language)) {
+            layout = buildLayout(state, language);
+            this.layout = layout;
+        }
+        return layout;
+    }
 
-        Map<Affinity, Integer> completionMap = player.getData(ModAttachments.AFFINITIES.get());
+    private Layout buildLayout(AffinityState state, String language) {
+        Component title = Component.translatable("affinity_book.elementalrealms.title");
+        int titleX = (WIDTH - this.font.width(title)) / 2 - 2;
 
-        Map<AffinityType, List<Affinity>> groups = new EnumMap<>(AffinityType.class);
-        for (AffinityType type : AffinityType.values()) {
-            groups.put(type, new ArrayList<>());
-        }
-        for (Affinity affinity : completionMap.keySet()) {
-            if (affinity == Affinity.VOID) continue;
-            groups.get(affinity.getType()).add(affinity);
-        }
-        groups.values().forEach(list -> list.sort(Comparator.comparingInt(completionMap::get).reversed()));
+        List<Row> rows = new ArrayList<>(state.size());
+        int y = FIRST_GROUP_Y_OFFSET;
+        y = addGroup(rows, state, AffinityType.ELEMENTAL, y);
+        y += ROW_SPACING;
+        y = addGroup(rows, state, AffinityType.DEVIANT, y);
+        y += ROW_SPACING;
+        addGroup(rows, state, AffinityType.ETERNAL, y);
 
-        startY = renderAffinityGroup(graphics, xOffset, startY, groups.get(AffinityType.ELEMENTAL), completionMap);
-        startY += ROW_SPACING;
-        startY = renderAffinityGroup(graphics, xOffset, startY, groups.get(AffinityType.DEVIANT), completionMap);
-        startY += ROW_SPACING;
-        renderAffinityGroup(graphics, xOffset, startY, groups.get(AffinityType.ETERNAL), completionMap);
+        return new Layout(state, language, title, titleX, List.copyOf(rows));
     }
 
-    private int renderAffinityGroup(
-            GuiGraphics graphics,
-            int x,
-            int y,
-            List<Affinity> group,
-            Map<Affinity, Integer> map
-    ) {
+    /**
+     * Appends the held affinities of {@code type}, highest completion first, and returns
+     * the y offset below the last row.
+     */
+    private int addGroup(List<Row> rows, AffinityState state, AffinityType type, int y) {
+        List<Affinity> group = new ArrayList<>();
+        for (Affinity affinity : state.held()) {
+            if (affinity.getType() == type) group.add(affinity);
+        }
+        group.sort(Comparator.comparingInt(state::get).reversed());
+
         for (Affinity affinity : group) {
-            int completion = map.getOrDefault(affinity, 0);
-            boolean isCompleted = completion >= COMPLETION_FULL;
-            renderAffinityEntry(graphics, affinity, completion, isCompleted, x, y);
+            int completion = state.get(affinity);
+            rows.add(new Row(
+                    Component.translatable("affinity.elementalrealms." + affinity.getName()),
+                    getAffinityColor(affinity),
+                    completion >= COMPLETION_FULL,
+                    completion + "%",
+                    getProgressColor(completion),
+                    y));
             y += ROW_HEIGHT;
         }
         return y;
     }
 
-    private void renderAffinityEntry(
-            GuiGraphics graphics,
-            Affinity affinity,
-            int completion,
-            boolean isCompleted,
-            int x,
-            int y
-    ) {
-        Component name = Component.translatable("affinity.elementalrealms." + affinity.getName());
-        graphics.drawString(this.font, name, x, y, getAffinityColor(affinity), isCompleted);
-
-        String percentText = completion + "%";
-        graphics.drawString(this.font, percentText, x + PERCENT_X_OFFSET, y, getProgressColor(completion), false);
-    }
-
     /**
      * 0% = red, 50% = orange, 100% = green. Linear interpolation between the stops.
      */
@@ -164,4 +176,10 @@ public class AffinityBookOverlay {
             case LIFE -> 0xFF32CD32;
         };
     }
-}
\ No newline at end of file
+
+    private record Row(Component name, int nameColor, boolean completed, String percent, int percentColor, int y) {
+    }
+
+    private record Layout(AffinityState state, String language, Component title, int titleX, List<Row> rows) {
+    }
+}
@@ -0,0 +1,148 @@
+package de.piggidragon.elementalrealms.client.particles;
+
+import de.piggidragon.elementalrealms.registries.configs.ModConfigs;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * Single server-side send path for mod particle packets. Each nearby player gets the
+ * packet at the density of their distance {@link LodTier}; players past the last tier
+ * get nothing. A per-tick packet budget ({@code ServerConfig.particlePacketBudgetPerTick})
+ * caps bursts, and send/cull/drop counts are kept for {@code /elementalrealms particles stats}.
+ *
+ * <p>Density is the fraction of the effect's full particle count the client should
+ * spawn; the client further scales it by its own particle multiplier. Server thread only.</p>
+ */
+public final class ParticleDispatcher {
+
+    /**
+     * Distance tiers, nearest first. Distances come from {@code ServerConfig}.
+     */
+    public enum LodTier {
+        FULL(1.0f),
+        REDUCED(0.5f),
+        MINIMAL(0.25f);
+
+        private final float density;
+
+        LodTier(float density) {
+            this.density = density;
+        }
+
+        public float density() {
+            return density;
+        }
+    }
+
+    private static int sentThisTick;
+    private static int culledThisTick;
+    private static int droppedThisTick;
+    private static Stats lastTick = new Stats(0, 0, 0);
+    private static int peakSent;
+    private static long totalSent;
+    private static long totalCulled;
+    private static long totalDropped;
+
+    private ParticleDispatcher() {
+    }
+
+    /**
+     * Sends the payload built by {@code factory} to every player within range of
+     * {@code origin}. {@code intensity} scales every tier's density (e.g. staff durability);
+     * at most one payload is built per tier.
+     */
+    public static void send(ServerLevel level, Vec3 origin, float intensity, PayloadFactory factory) {
+        double fullSqr = square(ModConfigs.SERVER.particleFullDetailDistance.get());
+        double reducedSqr = square(ModConfigs.SERVER.particleReducedDetailDistance.get());
+        double maxSqr = square(ModConfigs.SERVER.particleMaxDistance.get());
+        int budget = ModConfigs.SERVER.particlePacketBudgetPerTick.get();
+
+        CustomPacketPayload[] byTier = null;
+        for (ServerPlayer player : level.players()) {
+            double distanceSqr = player.distanceToSqr(origin);
+            LodTier tier;
+            if (distanceSqr <= fullSqr) {
+                tier = LodTier.FULL;
+            } else if (distanceSqr <= reducedSqr) {
+                tier = LodTier.REDUCED;
+            } else if (distanceSqr <= maxSqr) {
+                tier = LodTier.MINIMAL;
+            } else {
+                culledThisTick++;
+                continue;
+            }
+            if (budget >= 0 && sentThisTick >= budget) {
+                droppedThisTick++;
+                continue;
+            }
+
+            if (byTier == null) byTier = new CustomPacketPayload[LodTier.values().length];
+            CustomPacketPayload payload = byTier[tier.ordinal()];
+            if (payload == null) {
+                payload = byTier[tier.ordinal()] = factory.create(tier.density() * intensity);
+            }
+            PacketDistributor.sendToPlayer(player, payload);
+            sentThisTick++;
+        }
+    }
+
+    public static void send(ServerLevel level, Vec3 origin, PayloadFactory factory) {
+        send(level, origin, 1.0f, factory);
+    }
+
+    /**
+     * Closes the current tick's counters. Called once per server tick from
+     * {@code ServerTickHandler}.
+     */
+    public static void tick() {
+        lastTick = new Stats(sentThisTick, culledThisTick, droppedThisTick);
+        peakSent = Math.max(peakSent, sentThisTick);
+        totalSent += sentThisTick;
+        totalCulled += culledThisTick;
+        totalDropped += droppedThisTick;
+        sentThisTick = 0;
+        culledThisTick = 0;
+        droppedThisTick = 0;
+    }
+
+    public static Stats lastTick() {
+        return lastTick;
+    }
+
+    public static int peakSent() {
+        return peakSent;
+    }
+
+    public static Stats totals() {
+        return new Stats(totalSent, totalCulled, totalDropped);
+    }
+
+    public static void clear() {
+        sentThisTick = 0;
+        culledThisTick = 0;
+        droppedThisTick = 0;
+        lastTick = new Stats(0, 0, 0);
+        peakSent = 0;
+        totalSent = 0;
+        totalCulled = 0;
+        totalDropped = 0;
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    @FunctionalInterface
+    public interface PayloadFactory {
+        CustomPacketPayload create(float density);
+    }
+
+    /**
+     * Packets sent, players skipped as out of range, and sends skipped over budget.
+     */
+    public record Stats(long sent, long culled, long dropped) {
+    }
+}
@@ -0,0 +1,72 @@
+package de.piggidragon.elementalrealms.client.particles.effects;
+
+import de.piggidragon.elementalrealms.client.particles.ParticleDispatcher;
+import de.piggidragon.elementalrealms.client.particles.vanilla.AffinityParticles;
+import de.piggidragon.elementalrealms.client.particles.vanilla.DimensionStaffParticles;
+import de.piggidragon.elementalrealms.client.particles.vanilla.PortalParticles;
+import de.piggidragon.elementalrealms.packets.custom.particles.ParticleEffectPacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Registry of named parametric particle effects. The server sends one
+ * {@link ParticleEffectPacket} (effect, origin, seed, density) and every client rebuilds
+ * the same geometry locally from a {@link RandomSource} seeded with that value, instead of
+ * the server sending one vanilla particle packet per particle.
+ *
+ * <p>The wire id is the ordinal, so new effects go at the end.</p>
+ */
+public enum ParticleEffect {
+    FIRE_SPIRAL(AffinityParticles::fireSpiral),
+    WATER_VORTEX(AffinityParticles::waterVortex),
+    EARTH_DUST(AffinityParticles::earthDust),
+    WIND_CYCLONE(AffinityParticles::windCyclone),
+    LIGHTNING_BOLT(AffinityParticles::lightningBolt),
+    ICE_SPIRAL(AffinityParticles::iceSpiral),
+    GRAVITY_VORTEX(AffinityParticles::gravityVortex),
+    SOUND_WAVES(AffinityParticles::soundWaves),
+    TIME_SPIRAL(AffinityParticles::timeSpiral),
+    SPACE_RIFTS(AffinityParticles::spaceRifts),
+    LIFE_SPIRAL(AffinityParticles::lifeSpiral),
+    VOID_DISSIPATION(AffinityParticles::voidDissipation),
+    PORTAL_ARRIVAL(PortalParticles::portalArrival),
+    PORTAL_DISAPPEAR(PortalParticles::portalDisappear),
+    STAFF_DURABILITY(DimensionStaffParticles::durability);
+
+    private final Generator generator;
+
+    ParticleEffect(Generator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Sends this effect to nearby players through {@link ParticleDispatcher}.
+     */
+    public void send(ServerLevel level, Vec3 origin) {
+        send(level, origin, 1.0f);
+    }
+
+    /**
+     * As {@link #send(ServerLevel, Vec3)}, with every player's density scaled by
+     * {@code intensity}.
+     */
+    public void send(ServerLevel level, Vec3 origin, float intensity) {
+        int seed = level.random.nextInt();
+        ParticleDispatcher.send(level, origin, intensity,
+                density -> new ParticleEffectPacket(this, origin, seed, density));
+    }
+
+    /**
+     * Client-side expansion. The same {@code seed} always produces the same geometry.
+     */
+    public void play(Level level, Vec3 origin, int seed, float density) {
+        generator.generate(ParticleEmitter.create(level, RandomSource.create(seed), density), origin);
+    }
+
+    @FunctionalInterface
+    public interface Generator {
+        void generate(ParticleEmitter emitter, Vec3 origin);
+    }
+}
@@ -0,0 +1,65 @@
+package de.piggidragon.elementalrealms.client.particles.effects;
+
+import de.piggidragon.elementalrealms.registries.configs.ModConfigs;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+
+/**
+ * Client-side particle sink for mod effects. Scales every burst by the density the server
+ * requested (LOD tier, effect intensity) times the player's
+ * {@code ClientConfig.particleMultiplier}, so the same generator code serves every
+ * detail level.
+ */
+public final class ParticleEmitter {
+
+    private final Level level;
+    private final RandomSource random;
+    private final double density;
+
+    private ParticleEmitter(Level level, RandomSource random, double density) {
+        this.level = level;
+        this.random = random;
+        this.density = density;
+    }
+
+    /**
+     * Emitter for a received packet: {@code serverDensity} scaled by the local
+     * particle multiplier.
+     */
+    public static ParticleEmitter create(Level level, RandomSource random, float serverDensity) {
+        return new ParticleEmitter(level, random, serverDensity * ModConfigs.CLIENT.particleMultiplier.get());
+    }
+
+    public RandomSource random() {
+        return random;
+    }
+
+    /**
+     * Client-side equivalent of one {@code ServerLevel.sendParticles} call with
+     * {@code count > 0}: each particle is jittered by a gaussian scaled by the spread and
+     * gets a gaussian velocity scaled by {@code speed}, exactly as the vanilla packet
+     * handler expands it. {@code count} is scaled by the density first; fractional
+     * remainders are rounded stochastically so thin densities still show something on average.
+     */
+    public void burst(ParticleOptions type, double x, double y, double z, int count,
+                      double spreadX, double spreadY, double spreadZ, double speed) {
+        int scaled = scaledCount(count);
+        for (int i = 0; i < scaled; i++) {
+            level.addParticle(type,
+                    x + random.nextGaussian() * spreadX,
+                    y + random.nextGaussian() * spreadY,
+                    z + random.nextGaussian() * spreadZ,
+                    random.nextGaussian() * speed,
+                    random.nextGaussian() * speed,
+                    random.nextGaussian() * speed);
+        }
+    }
+
+    private int scaledCount(int count) {
+        if (density == 1.0) return count;
+        double expected = count * density;
+        int whole = (int) expected;
+        return random.nextDouble() < expected - whole ? whole + 1 : whole;
+    }
+}
@@ -0,0 +1,80 @@
+package de.piggidragon.elementalrealms.client.particles.effects;
+
+import de.piggidragon.elementalrealms.client.rendering.tasks.RenderManager;
+import de.piggidragon.elementalrealms.client.rendering.tasks.TickTask;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Client-simulated spiraling beam from the School Staff tip to the portal spawn point.
+ * Started by a {@link de.piggidragon.elementalrealms.packets.custom.particles.StaffBeamPacket}
+ * and ticked through {@link RenderManager}; removes itself after its last step.
+ */
+public final class StaffBeamEffect implements TickTask {
+
+    private final ParticleEmitter emitter;
+    private final Vec3 startPos;
+    private final Vec3 direction;
+    private final double stepSize;
+    private final int durationTicks;
+    private int currentTick = 0;
+
+    private StaffBeamEffect(ParticleEmitter emitter, Vec3 startPos, Vec3 targetPos, int durationTicks) {
+        this.emitter = emitter;
+        this.startPos = startPos;
+        this.direction = targetPos.subtract(startPos).normalize();
+        this.stepSize = startPos.distanceTo(targetPos) / Math.max(1, durationTicks);
+        this.durationTicks = durationTicks;
+    }
+
+    public static void start(Level level, Vec3 startPos, Vec3 targetPos, int durationTicks, float density) {
+        ParticleEmitter emitter = ParticleEmitter.create(level, level.random, density);
+        RenderManager.addTickTask(new StaffBeamEffect(emitter, startPos, targetPos, durationTicks));
+    }
+
+    @Override
+    public Priority getPriority() {
+        return Priority.COSMETIC;
+    }
+
+    /**
+     * Skips the steps missed while deferred, so the beam reaches the target when the server
+     * spawns the portal instead of lagging behind it.
+     */
+    @Override
+    public void tick(int elapsedTicks) {
+        currentTick += elapsedTicks - 1;
+        tick();
+    }
+
+    @Override
+    public void tick() {
+        if (currentTick > durationTicks) {
+            RenderManager.requestRemoveTickTask(this);
+            return;
+        }
+
+        // Walk along the staff-tip -> target-pos line at a constant step size, then emit
+        // three spiral arms (cos/sin, 120° apart) at each step. This produces the
+        // twisting beam visual without locking the particle count to distance.
+        Vec3 currentPos = startPos.add(direction.scale(currentTick * stepSize));
+
+        for (int i = 0; i < 3; i++) {
+            double angle = currentTick * 0.3 + i * (Math.PI * 2 / 3);
+            double offsetX = Math.cos(angle) * 0.3;
+            double offsetZ = Math.sin(angle) * 0.3;
+            emitter.burst(ParticleTypes.PORTAL,
+                    currentPos.x + offsetX, currentPos.y, currentPos.z + offsetZ,
+                    1, 0.0, 0.0, 0.0, 0.02);
+        }
+
+        if (currentTick % 3 == 0) {
+            emitter.burst(ParticleTypes.WITCH,
+                    currentPos.x, currentPos.y, currentPos.z,
+                    2, 0.1, 0.1, 0.1, 0.01);
+        }
+
+        currentTick++;
+    }
+}
@@ -1,12 +1,16 @@
 package de.piggidragon.elementalrealms.client.particles.vanilla;
 
+import de.piggidragon.elementalrealms.client.particles.effects.ParticleEffect;
+import de.piggidragon.elementalrealms.client.particles.effects.ParticleEmitter;
 import de.piggidragon.elementalrealms.magic.affinities.Affinity;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.Vec3;
 
 /**
- * Server-side particle bursts for each affinity type. Shown to all nearby players.
+ * Particle bursts for each affinity type, shown to all nearby players. The server sends a
+ * single {@link ParticleEffect} trigger; the generators below run on each client.
  */
 public final class AffinityParticles {
 
@@ -14,148 +18,149 @@ public final class AffinityParticles {
     }
 
     public static void createCustomAffinityParticles(ServerLevel level, ServerPlayer player, Affinity affinity) {
-        switch (affinity) {
-            case FIRE -> fireSpiral(level, player);
-            case WATER -> waterVortex(level, player);
-            case EARTH -> earthDust(level, player);
-            case WIND -> windCyclone(level, player);
-            case LIGHTNING -> lightningBolt(level, player);
-            case ICE -> iceSpiral(level, player);
-            case GRAVITY -> gravityVortex(level, player);
-            case SOUND -> soundWaves(level, player);
-            case TIME -> timeSpiral(level, player);
-            case SPACE -> spaceRifts(level, player);
-            case LIFE -> lifeSpiral(level, player);
-            case VOID -> voidDissipation(level, player);
-        }
+        ParticleEffect effect = switch (affinity) {
+            case FIRE -> ParticleEffect.FIRE_SPIRAL;
+            case WATER -> ParticleEffect.WATER_VORTEX;
+            case EARTH -> ParticleEffect.EARTH_DUST;
+            case WIND -> ParticleEffect.WIND_CYCLONE;
+            case LIGHTNING -> ParticleEffect.LIGHTNING_BOLT;
+            case ICE -> ParticleEffect.ICE_SPIRAL;
+            case GRAVITY -> ParticleEffect.GRAVITY_VORTEX;
+            case SOUND -> ParticleEffect.SOUND_WAVES;
+            case TIME -> ParticleEffect.TIME_SPIRAL;
+            case SPACE -> ParticleEffect.SPACE_RIFTS;
+            case LIFE -> ParticleEffect.LIFE_SPIRAL;
+            case VOID -> ParticleEffect.VOID_DISSIPATION;
+        };
+        effect.send(level, player.position());
     }
 
-    private static void fireSpiral(ServerLevel level, ServerPlayer player) {
+    public static void fireSpiral(ParticleEmitter emitter, Vec3 origin) {
         for (int i = 0; i < 25; i++) {
             double angle = i * Math.PI / 4;
-            double x = player.getX() + Math.cos(angle) * 1.2;
-            double y = player.getY() + 0.5 + i * 0.1;
-            double z = player.getZ() + Math.sin(angle) * 1.2;
-            level.sendParticles(ParticleTypes.FLAME, x, y, z, 1, 0.0, 0.05, 0.0, 0.02);
+            double x = origin.x + Math.cos(angle) * 1.2;
+            double y = origin.y + 0.5 + i * 0.1;
+            double z = origin.z + Math.sin(angle) * 1.2;
+            emitter.burst(ParticleTypes.FLAME, x, y, z, 1, 0.0, 0.05, 0.0, 0.02);
         }
-        level.sendParticles(ParticleTypes.LAVA, player.getX(), player.getY() + 0.5, player.getZ(),
+        emitter.burst(ParticleTypes.LAVA, origin.x, origin.y + 0.5, origin.z,
                 8, 0.5, 0.2, 0.5, 0.1);
     }
 
-    private static void waterVortex(ServerLevel level, ServerPlayer player) {
+    public static void waterVortex(ParticleEmitter emitter, Vec3 origin) {
         for (int i = 0; i < 30; i++) {
             double angle = i * Math.PI / 6;
             double radius = 0.8 + Math.sin(i * 0.2) * 0.4;
-            double x = player.getX() + Math.cos(angle) * radius;
-            double y = player.getY() + 1.0 + Math.sin(i * 0.3) * 0.5;
-            double z = player.getZ() + Math.sin(angle) * radius;
-            level.sendParticles(ParticleTypes.FALLING_WATER, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
+            double x = origin.x + Math.cos(angle) * radius;
+            double y = origin.y + 1.0 + Math.sin(i * 0.3) * 0.5;
+            double z = origin.z + Math.sin(angle) * radius;
+            emitter.burst(ParticleTypes.FALLING_WATER, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
         }
-        level.sendParticles(ParticleTypes.SPLASH, player.getX(), player.getY() + 0.1, player.getZ(),
+        emitter.burst(ParticleTypes.SPLASH, origin.x, origin.y + 0.1, origin.z,
                 15, 1.0, 0.1, 1.0, 0.2);
-        level.sendParticles(ParticleTypes.BUBBLE_POP, player.getX(), player.getY() + 1.0, player.getZ(),
+        emitter.burst(ParticleTypes.BUBBLE_POP, origin.x, origin.y + 1.0, origin.z,
                 10, 0.8, 0.5, 0.8, 0.02);
     }
 
-    private static void earthDust(ServerLevel level, ServerPlayer player) {
+    public static void earthDust(ParticleEmitter emitter, Vec3 origin) {
         for (int i = 0; i < 20; i++) {
-            double offsetX = (level.random.nextDouble() - 0.5) * 3.0;
-            double offsetZ = (level.random.nextDouble() - 0.5) * 3.0;
-            double offsetY = level.random.nextDouble() * 2.5;
-            level.sendParticles(ParticleTypes.SMOKE,
-                    player.getX() + offsetX, player.getY() + offsetY, player.getZ() + offsetZ,
+            double offsetX = (emitter.random().nextDouble() - 0.5) * 3.0;
+            double offsetZ = (emitter.random().nextDouble() - 0.5) * 3.0;
+            double offsetY = emitter.random().nextDouble() * 2.5;
+            emitter.burst(ParticleTypes.SMOKE,
+                    origin.x + offsetX, origin.y + offsetY, origin.z + offsetZ,
                     2, 0.1, 0.3, 0.1, 0.05);
         }
-        level.sendParticles(ParticleTypes.LARGE_SMOKE, player.getX(), player.getY() + 0.5, player.getZ(),
+        emitter.burst(ParticleTypes.LARGE_SMOKE, origin.x, origin.y + 0.5, origin.z,
                 8, 1.0, 0.5, 1.0, 0.02);
-        level.sendParticles(ParticleTypes.ASH, player.getX(), player.getY() + 1.0, player.getZ(),
+        emitter.burst(ParticleTypes.ASH, origin.x, origin.y + 1.0, origin.z,
                 15, 1.2, 0.8, 1.2, 0.01);
     }
 
-    private static void windCyclone(ServerLevel level, ServerPlayer player) {
+    public static void windCyclone(ParticleEmitter emitter, Vec3 origin) {
         for (int i = 0; i < 50; i++) {
             double angle = i * Math.PI / 8;
             double radius = 1.5 + Math.sin(i * 0.1) * 0.5;
             double height = Math.cos(i * 0.2);
-            double x = player.getX() + Math.cos(angle) * radius;
-            double y = player.getY() + 1.0 + height;
-            double z = player.getZ() + Math.sin(angle) * radius;
-            level.sendParticles(ParticleTypes.CLOUD, x, y, z, 1, 0.0, 0.0, 0.0, 0.01);
+            double x = origin.x + Math.cos(angle) * radius;
+            double y = origin.y + 1.0 + height;
+            double z = origin.z + Math.sin(angle) * radius;
+            emitter.burst(ParticleTypes.CLOUD, x, y, z, 1, 0.0, 0.0, 0.0, 0.01);
         }
-        level.sendParticles(ParticleTypes.CAMPFIRE_COSY_SMOKE,
-                player.getX(), player.getY() + 1.0, player.getZ(),
+        emitter.burst(ParticleTypes.CAMPFIRE_COSY_SMOKE,
+                origin.x, origin.y + 1.0, origin.z,
                 10, 0.8, 0.5, 0.8, 0.02);
-        level.sendParticles(ParticleTypes.SWEEP_ATTACK,
-                player.getX(), player.getY() + 1.0, player.getZ(),
+        emitter.burst(ParticleTypes.SWEEP_ATTACK,
+                origin.x, origin.y + 1.0, origin.z,
                 3, 1.0, 0.2, 1.0, 0.0);
     }
 
-    private static void lightningBolt(ServerLevel level, ServerPlayer player) {
+    public static void lightningBolt(ParticleEmitter emitter, Vec3 origin) {
         for (int i = 0; i < 15; i++) {
             double height = i * 0.2;
-            level.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                    player.getX(), player.getY() + height, player.getZ(),
+            emitter.burst(ParticleTypes.ELECTRIC_SPARK,
+                    origin.x, origin.y + height, origin.z,
                     3, 0.3, 0.1, 0.3, 0.1);
         }
-        level.sendParticles(ParticleTypes.FLASH, player.getX(), player.getY() + 1.5, player.getZ(),
+        emitter.burst(ParticleTypes.FLASH, origin.x, origin.y + 1.5, origin.z,
                 5, 0.0, 0.0, 0.0, 0.0);
-        level.sendParticles(ParticleTypes.CRIT, player.getX(), player.getY() + 1.0, player.getZ(),
+        emitter.burst(ParticleTypes.CRIT, origin.x, origin.y + 1.0, origin.z,
                 20, 1.0, 1.0, 1.0, 0.2);
     }
 
-    private static void iceSpiral(ServerLevel level, ServerPlayer player) {
+    public static void iceSpiral(ParticleEmitter emitter, Vec3 origin) {
         for (int i = 0; i < 25; i++) {
             double angle = i * Math.PI / 6;
-            double x = player.getX() + Math.cos(angle);
-            double y = player.getY() + 1.0 + (i * 0.05);
-            double z = player.getZ() + Math.sin(angle);
-            level.sendParticles(ParticleTypes.SNOWFLAKE, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
+            double x = origin.x + Math.cos(angle);
+            double y = origin.y + 1.0 + (i * 0.05);
+            double z = origin.z + Math.sin(angle);
+            emitter.burst(ParticleTypes.SNOWFLAKE, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
         }
-        level.sendParticles(ParticleTypes.WHITE_ASH, player.getX(), player.getY() + 2.0, player.getZ(),
+        emitter.burst(ParticleTypes.WHITE_ASH, origin.x, origin.y + 2.0, origin.z,
                 20, 1.5, 0.5, 1.5, 0.02);
-        level.sendParticles(ParticleTypes.ITEM_SNOWBALL, player.getX(), player.getY() + 1.2, player.getZ(),
+        emitter.burst(ParticleTypes.ITEM_SNOWBALL, origin.x, origin.y + 1.2, origin.z,
                 12, 0.8, 0.8, 0.8, 0.1);
     }
 
-    private static void gravityVortex(ServerLevel level, ServerPlayer player) {
+    public static void gravityVortex(ParticleEmitter emitter, Vec3 origin) {
         for (int i = 0; i < 40; i++) {
             double angle = i * Math.PI / 10;
             double radius = 2.0 - (i * 0.03);
-            double x = player.getX() + Math.cos(angle) * radius;
-            double y = player.getY() + 0.5 + Math.sin(i * 0.4) * 0.8;
-            double z = player.getZ() + Math.sin(angle) * radius;
-            level.sendParticles(ParticleTypes.REVERSE_PORTAL, x, y, z, 1, 0.0, 0.0, 0.0, 0.02);
+            double x = origin.x + Math.cos(angle) * radius;
+            double y = origin.y + 0.5 + Math.sin(i * 0.4) * 0.8;
+            double z = origin.z + Math.sin(angle) * radius;
+            emitter.burst(ParticleTypes.REVERSE_PORTAL, x, y, z, 1, 0.0, 0.0, 0.0, 0.02);
         }
-        level.sendParticles(ParticleTypes.WITCH, player.getX(), player.getY() + 1.5, player.getZ(),
+        emitter.burst(ParticleTypes.WITCH, origin.x, origin.y + 1.5, origin.z,
                 8, 0.5, 0.8, 0.5, 0.02);
     }
 
-    private static void soundWaves(ServerLevel level, ServerPlayer player) {
+    public static void soundWaves(ParticleEmitter emitter, Vec3 origin) {
         for (int ring = 0; ring < 5; ring++) {
             double ringRadius = (ring + 1) * 0.7;
-            double ringHeight = player.getY() + 0.8 + (ring * 0.1);
+            double ringHeight = origin.y + 0.8 + (ring * 0.1);
 
             for (int i = 0; i < 20; i++) {
                 double angle = i * Math.PI * 2 / 20;
-                double x = player.getX() + Math.cos(angle) * ringRadius;
-                double z = player.getZ() + Math.sin(angle) * ringRadius;
-                level.sendParticles(ParticleTypes.ENCHANT, x, ringHeight, z, 1, 0.0, 0.0, 0.0, 0.0);
+                double x = origin.x + Math.cos(angle) * ringRadius;
+                double z = origin.z + Math.sin(angle) * ringRadius;
+                emitter.burst(ParticleTypes.ENCHANT, x, ringHeight, z, 1, 0.0, 0.0, 0.0, 0.0);
             }
         }
 
         for (int i = 0; i < 15; i++) {
             double height = i * 0.15;
             double vibrationOffset = Math.sin(i * 0.8) * 0.2;
-            level.sendParticles(ParticleTypes.END_ROD,
-                    player.getX() + vibrationOffset, player.getY() + 0.5 + height, player.getZ(),
+            emitter.burst(ParticleTypes.END_ROD,
+                    origin.x + vibrationOffset, origin.y + 0.5 + height, origin.z,
                     1, 0.0, 0.02, 0.0, 0.01);
 
             if (i % 3 == 0) {
-                level.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                        player.getX() + vibrationOffset * 1.5, player.getY() + 0.5 + height, player.getZ(),
+                emitter.burst(ParticleTypes.ELECTRIC_SPARK,
+                        origin.x + vibrationOffset * 1.5, origin.y + 0.5 + height, origin.z,
                         2, 0.1, 0.1, 0.1, 0.02);
-                level.sendParticles(ParticleTypes.ELECTRIC_SPARK,
-                        player.getX() - vibrationOffset * 1.5, player.getY() + 0.5 + height, player.getZ(),
+                emitter.burst(ParticleTypes.ELECTRIC_SPARK,
+                        origin.x - vibrationOffset * 1.5, origin.y + 0.5 + height, origin.z,
                         2, 0.1, 0.1, 0.1, 0.02);
             }
         }
@@ -164,67 +169,67 @@ public final class AffinityParticles {
             double pulseRadius = (pulse + 1) * 1.0;
             for (int i = 0; i < 16; i++) {
                 double angle = i * Math.PI * 2 / 16;
-                double x = player.getX() + Math.cos(angle) * pulseRadius;
-                double z = player.getZ() + Math.sin(angle) * pulseRadius;
-                level.sendParticles(ParticleTypes.CRIT, x, player.getY() + 1.0, z, 1, 0.0, 0.0, 0.0, 0.05);
+                double x = origin.x + Math.cos(angle) * pulseRadius;
+                double z = origin.z + Math.sin(angle) * pulseRadius;
+                emitter.burst(ParticleTypes.CRIT, x, origin.y + 1.0, z, 1, 0.0, 0.0, 0.0, 0.05);
             }
         }
 
-        level.sendParticles(ParticleTypes.SONIC_BOOM, player.getX(), player.getY() + 1.0, player.getZ(),
+        emitter.burst(ParticleTypes.SONIC_BOOM, origin.x, origin.y + 1.0, origin.z,
                 1, 0.0, 0.0, 0.0, 0.0);
-        level.sendParticles(ParticleTypes.FLASH, player.getX(), player.getY() + 0.5, player.getZ(),
+        emitter.burst(ParticleTypes.FLASH, origin.x, origin.y + 0.5, origin.z,
                 8, 0.8, 0.5, 0.8, 0.02);
     }
 
-    private static void timeSpiral(ServerLevel level, ServerPlayer player) {
+    public static void timeSpiral(ParticleEmitter emitter, Vec3 origin) {
         for (int i = 0; i < 35; i++) {
             double angle = i * Math.PI / 8;
             double height = Math.sin(i * 0.5) * 1.2;
-            double x = player.getX() + Math.cos(angle) * 1.3;
-            double y = player.getY() + 1.0 + height;
-            double z = player.getZ() + Math.sin(angle) * 1.3;
-            level.sendParticles(ParticleTypes.END_ROD, x, y, z, 1, 0.0, 0.0, 0.0, 0.01);
+            double x = origin.x + Math.cos(angle) * 1.3;
+            double y = origin.y + 1.0 + height;
+            double z = origin.z + Math.sin(angle) * 1.3;
+            emitter.burst(ParticleTypes.END_ROD, x, y, z, 1, 0.0, 0.0, 0.0, 0.01);
         }
-        level.sendParticles(ParticleTypes.SCULK_SOUL, player.getX(), player.getY() + 1.5, player.getZ(),
+        emitter.burst(ParticleTypes.SCULK_SOUL, origin.x, origin.y + 1.5, origin.z,
                 10, 0.8, 0.5, 0.8, 0.02);
     }
 
-    private static void spaceRifts(ServerLevel level, ServerPlayer player) {
+    public static void spaceRifts(ParticleEmitter emitter, Vec3 origin) {
         for (int i = 0; i < 45; i++) {
-            double offsetX = (level.random.nextDouble() - 0.5) * 4.0;
-            double offsetY = level.random.nextDouble() * 3.0;
-            double offsetZ = (level.random.nextDouble() - 0.5) * 4.0;
-            level.sendParticles(ParticleTypes.PORTAL,
-                    player.getX() + offsetX, player.getY() + offsetY, player.getZ() + offsetZ,
+            double offsetX = (emitter.random().nextDouble() - 0.5) * 4.0;
+            double offsetY = emitter.random().nextDouble() * 3.0;
+            double offsetZ = (emitter.random().nextDouble() - 0.5) * 4.0;
+            emitter.burst(ParticleTypes.PORTAL,
+                    origin.x + offsetX, origin.y + offsetY, origin.z + offsetZ,
                     1, 0.0, 0.0, 0.0, 0.1);
         }
-        level.sendParticles(ParticleTypes.WARPED_SPORE, player.getX(), player.getY() + 1.0, player.getZ(),
+        emitter.burst(ParticleTypes.WARPED_SPORE, origin.x, origin.y + 1.0, origin.z,
                 15, 1.5, 1.0, 1.5, 0.01);
     }
 
-    private static void lifeSpiral(ServerLevel level, ServerPlayer player) {
+    public static void lifeSpiral(ParticleEmitter emitter, Vec3 origin) {
         for (int i = 0; i < 30; i++) {
             double angle = i * Math.PI / 8;
             double height = Math.abs(Math.sin(i * 0.3)) * 1.5;
-            double x = player.getX() + Math.cos(angle) * 1.1;
-            double y = player.getY() + 0.2 + height;
-            double z = player.getZ() + Math.sin(angle) * 1.1;
-            level.sendParticles(ParticleTypes.HAPPY_VILLAGER, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
+            double x = origin.x + Math.cos(angle) * 1.1;
+            double y = origin.y + 0.2 + height;
+            double z = origin.z + Math.sin(angle) * 1.1;
+            emitter.burst(ParticleTypes.HAPPY_VILLAGER, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
         }
-        level.sendParticles(ParticleTypes.HEART, player.getX(), player.getY() + 2.0, player.getZ(),
+        emitter.burst(ParticleTypes.HEART, origin.x, origin.y + 2.0, origin.z,
                 8, 0.8, 0.5, 0.8, 0.0);
-        level.sendParticles(ParticleTypes.COMPOSTER, player.getX(), player.getY() + 0.8, player.getZ(),
+        emitter.burst(ParticleTypes.COMPOSTER, origin.x, origin.y + 0.8, origin.z,
                 12, 1.0, 0.5, 1.0, 0.02);
     }
 
-    private static void voidDissipation(ServerLevel level, ServerPlayer player) {
-        level.sendParticles(ParticleTypes.SMOKE, player.getX(), player.getY() + 1.0, player.getZ(),
+    public static void voidDissipation(ParticleEmitter emitter, Vec3 origin) {
+        emitter.burst(ParticleTypes.SMOKE, origin.x, origin.y + 1.0, origin.z,
                 20, 0.8, 1.0, 0.8, 0.05);
-        level.sendParticles(ParticleTypes.ASH, player.getX(), player.getY() + 1.5, player.getZ(),
+        emitter.burst(ParticleTypes.ASH, origin.x, origin.y + 1.5, origin.z,
                 15, 1.0, 0.8, 1.0, 0.02);
-        level.sendParticles(ParticleTypes.WARPED_SPORE, player.getX(), player.getY() + 0.8, player.getZ(),
+        emitter.burst(ParticleTypes.WARPED_SPORE, origin.x, origin.y + 0.8, origin.z,
                 10, 1.2, 0.5, 1.2, 0.01);
-        level.sendParticles(ParticleTypes.CRIMSON_SPORE, player.getX(), player.getY() + 1.2, player.getZ(),
+        emitter.burst(ParticleTypes.CRIMSON_SPORE, origin.x, origin.y + 1.2, origin.z,
                 8, 1.0, 0.8, 1.0, 0.01);
     }
 }
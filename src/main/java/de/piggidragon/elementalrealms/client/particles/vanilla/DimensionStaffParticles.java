@@ -1,9 +1,12 @@
 package de.piggidragon.elementalrealms.client.particles.vanilla;
 
+import de.piggidragon.elementalrealms.client.particles.effects.ParticleEffect;
+import de.piggidragon.elementalrealms.client.particles.effects.ParticleEmitter;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.phys.Vec3;
 
 /**
  * Particle bursts for the dimension staff. Particle count scales with remaining durability.
@@ -12,18 +15,24 @@ public final class DimensionStaffParticles {
 
     private static final float SCALE = 10.0f;
     private static final int MIN_PARTICLES = 3;
+    private static final int MAX_PARTICLES = (int) SCALE + MIN_PARTICLES;
 
     private DimensionStaffParticles() {
     }
 
+    /**
+     * Sends the durability burst; the remaining-durability share travels as effect
+     * intensity, so the client spawns {@code MAX_PARTICLES * intensity} on average.
+     */
     public static void addDurabilityEffects(ServerLevel level, Player player, ItemStack staff) {
         float durabilityPercent = 1.0f - ((float) staff.getDamageValue() / staff.getMaxDamage());
         int particleCount = (int) (durabilityPercent * SCALE) + MIN_PARTICLES;
+        ParticleEffect.STAFF_DURABILITY.send(level, player.position(), (float) particleCount / MAX_PARTICLES);
+    }
 
-        for (int i = 0; i < particleCount; i++) {
-            level.sendParticles(ParticleTypes.ENCHANT,
-                    player.getX(), player.getY() + 1.0, player.getZ(),
-                    1, 0.3, 0.3, 0.3, 0.02);
-        }
+    public static void durability(ParticleEmitter emitter, Vec3 origin) {
+        emitter.burst(ParticleTypes.ENCHANT,
+                origin.x, origin.y + 1.0, origin.z,
+                MAX_PARTICLES, 0.3, 0.3, 0.3, 0.02);
     }
 }
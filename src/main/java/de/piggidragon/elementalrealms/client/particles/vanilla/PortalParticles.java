@@ -1,30 +1,73 @@
 package de.piggidragon.elementalrealms.client.particles.vanilla;
 
+import de.piggidragon.elementalrealms.client.particles.ParticleDispatcher;
+import de.piggidragon.elementalrealms.client.particles.effects.ParticleEffect;
+import de.piggidragon.elementalrealms.client.particles.effects.ParticleEmitter;
+import de.piggidragon.elementalrealms.packets.custom.particles.PortalAmbientParticlesPacket;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.phys.Vec3;
 
 /**
- * Particle bursts shown when a portal is created or despawned.
+ * Particle bursts shown when a portal is created or despawned, plus the ambient ring
+ * around live portals. The server-side entry points send packets through
+ * {@link ParticleDispatcher}; the generators below run on each client.
  */
 public final class PortalParticles {
 
+    private static final double AMBIENT_SPEED = 0.02;
+
     private PortalParticles() {
     }
 
     public static void createPortalArrivalEffect(ServerLevel level, Vec3 position) {
+        ParticleEffect.PORTAL_ARRIVAL.send(level, position);
+    }
+
+    public static void createPortalDisappearEffect(ServerLevel level, Vec3 position) {
+        ParticleEffect.PORTAL_DISAPPEAR.send(level, position);
+    }
+
+    /**
+     * Sends one {@link PortalAmbientParticlesPacket} per nearby player instead of one
+     * vanilla particle packet per particle; the ring is expanded client-side by
+     * {@link #spawnAmbientRing}.
+     */
+    public static void sendAmbientRing(ServerLevel level, Vec3 center, double radius, int count, double phase) {
+        if (count <= 0) return;
+        ParticleDispatcher.send(level, center, density ->
+                new PortalAmbientParticlesPacket(center, (float) radius, count, (float) phase, density));
+    }
+
+    /**
+     * Client-side expansion of {@link PortalAmbientParticlesPacket}. Matches what the
+     * per-particle {@code sendParticles(PORTAL, ..., 1, 0, 0, 0, 0.02)} calls produced:
+     * one particle per ring slot with a small gaussian velocity.
+     */
+    public static void spawnAmbientRing(ParticleEmitter emitter, Vec3 center, double radius, int count, double phase) {
+        for (int i = 0; i < count; i++) {
+            double angle = phase + i * Math.PI * 2 / count;
+            emitter.burst(ParticleTypes.PORTAL,
+                    center.x + Math.cos(angle) * radius,
+                    center.y,
+                    center.z + Math.sin(angle) * radius,
+                    1, 0.0, 0.0, 0.0, AMBIENT_SPEED);
+        }
+    }
+
+    public static void portalArrival(ParticleEmitter emitter, Vec3 position) {
         for (int ring = 0; ring < 3; ring++) {
             double radius = (ring + 1) * 0.8;
             for (int i = 0; i < 16; i++) {
                 double angle = i * Math.PI * 2 / 16;
                 double x = position.x + Math.cos(angle) * radius;
                 double z = position.z + Math.sin(angle) * radius;
-                level.sendParticles(ParticleTypes.REVERSE_PORTAL, x, position.y, z, 2, 0.0, 0.0, 0.0, 0.05);
+                emitter.burst(ParticleTypes.REVERSE_PORTAL, x, position.y, z, 2, 0.0, 0.0, 0.0, 0.05);
             }
         }
     }
 
-    public static void createPortalDisappearEffect(ServerLevel level, Vec3 position) {
+    public static void portalDisappear(ParticleEmitter emitter, Vec3 position) {
         for (int i = 0; i < 20; i++) {
             double angle = i * Math.PI * 2 / 6;
             double radius = 1.5 - (i * 0.05);
@@ -32,12 +75,12 @@ public final class PortalParticles {
             double x = position.x + Math.cos(angle) * radius;
             double y = position.y + height;
             double z = position.z + Math.sin(angle) * radius;
-            level.sendParticles(ParticleTypes.PORTAL, x, y, z, 1,
+            emitter.burst(ParticleTypes.PORTAL, x, y, z, 1,
                     -Math.cos(angle) * 0.1, -0.02, -Math.sin(angle) * 0.1, 0.05);
         }
-        level.sendParticles(ParticleTypes.LARGE_SMOKE,
+        emitter.burst(ParticleTypes.LARGE_SMOKE,
                 position.x, position.y + 0.5, position.z, 8, 0.5, 0.3, 0.5, 0.02);
-        level.sendParticles(ParticleTypes.WITCH,
+        emitter.burst(ParticleTypes.WITCH,
                 position.x, position.y + 0.3, position.z, 12, 0.8, 0.5, 0.8, 0.01);
     }
 }
@@ -1,91 +1,329 @@
 package de.piggidragon.elementalrealms.client.rendering.tasks;
 
 import com.mojang.blaze3d.vertex.PoseStack;
+import de.piggidragon.elementalrealms.registries.configs.ModConfigs;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
 import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.culling.Frustum;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
 
 /**
  * Thread-safe registry for client-side render and tick tasks.
- * Removal is deferred to {@link #removeRequestedTasks()} so background threads can flag
- * a task for removal without risking concurrent modification during render.
+ *
+ * <p>Each registry is an immutable snapshot (task array plus identity set) swapped
+ * atomically on add, so the render and tick passes iterate a plain array without locking
+ * or allocating, and producers on other threads never block them. Removal requests go
+ * into a lock-free queue drained by {@link #removeRequestedTasks()} once per frame/tick,
+ * so a task can flag itself for removal from inside its own callback.</p>
+ *
+ * <p>Tasks are identified by identity; adding a task that is already registered is a
+ * no-op.</p>
+ *
+ * <p>Render tasks that report {@link RenderTask#getBounds() bounds} are culled against the
+ * camera frustum and {@code renderTaskMaxDistance}; the last frame's counts are shown on
+ * the F3 screen via {@link #lastFrameStats()}.</p>
+ *
+ * <p>Tick tasks run by {@link TickTask.Priority}: critical, then normal, then cosmetic
+ * while the {@code tickTaskBudgetMicros} budget lasts. Cosmetic tasks that don't fit
+ * resume next tick from where the last pass stopped, and at least one runs every tick even
+ * if critical and normal work used up the whole budget, so none of them starves. A deferred
+ * task is passed the ticks it missed via {@link TickTask#tick(int)} so time-synchronised
+ * effects catch up instead of falling behind.
+ * {@link #tickStats()} reports budget overruns, deferrals, and per-class tick time
+ * percentiles.</p>
  */
 public final class RenderManager {
 
-    private static final List<RenderTask> RENDER_TASKS = new ArrayList<>();
-    private static final List<TickTask> TICK_TASKS = new ArrayList<>();
-    private static final List<TickTask> TICK_TASKS_TO_REMOVE = new ArrayList<>();
-    private static final List<RenderTask> RENDER_TASKS_TO_REMOVE = new ArrayList<>();
+    private static final TaskList<RenderTask> RENDER_TASKS = new TaskList<>(RenderTask[]::new);
+    private static final TickTask.Priority[] PRIORITIES = TickTask.Priority.values();
+    private static final Map<TickTask.Priority, TaskList<TickTask>> TICK_TASKS = new EnumMap<>(TickTask.Priority.class);
+    private static final int LATENCY_SAMPLES = 128;
+
+    static {
+        for (TickTask.Priority priority : PRIORITIES) {
+            TICK_TASKS.put(priority, new TaskList<>(TickTask[]::new));
+        }
+    }
+
+    // Render-thread only.
+    private static CullStats lastFrameStats = new CullStats(0, 0, 0);
+
+    // Client-thread only. Ring buffers of per-tick pass time, indexed by priority ordinal.
+    private static final long[][] TICK_NANOS = new long[PRIORITIES.length][LATENCY_SAMPLES];
+    private static int tickSampleIndex;
+    private static int tickSampleCount;
+    private static int cosmeticCursor;
+    private static long tickCount;
+    // Tick count at which each cosmetic task last ran; absent (0) until its first run.
+    private static final Reference2LongOpenHashMap<TickTask> COSMETIC_LAST_TICK = new Reference2LongOpenHashMap<>();
+    private static long overrunTicks;
+    private static long deferredTasks;
 
     private RenderManager() {
     }
 
     public static void addTickTask(TickTask task) {
-        synchronized (TICK_TASKS) {
-            TICK_TASKS.add(task);
-        }
+        TICK_TASKS.get(task.getPriority()).add(task);
     }
 
     public static void addRenderTask(RenderTask task) {
-        synchronized (RENDER_TASKS) {
-            RENDER_TASKS.add(task);
-        }
+        RENDER_TASKS.add(task);
     }
 
-    public static void executeAll(float partialTicks, PoseStack poseStack, MultiBufferSource bufferSource) {
-        synchronized (RENDER_TASKS) {
-            if (RENDER_TASKS.isEmpty()) return;
-            for (RenderTask task : RENDER_TASKS) {
-                task.render(partialTicks, poseStack, bufferSource);
+    public static void executeAll(float partialTicks, PoseStack poseStack, MultiBufferSource bufferSource,
+                                  Frustum frustum, Vec3 cameraPos) {
+        executeAll(partialTicks, poseStack, bufferSource, frustum, cameraPos,
+                ModConfigs.CLIENT.renderTaskMaxDistance.get());
+    }
+
+    static void executeAll(float partialTicks, PoseStack poseStack, MultiBufferSource bufferSource,
+                           Frustum frustum, Vec3 cameraPos, double maxDistance) {
+        RenderTask[] tasks = RENDER_TASKS.tasks();
+        if (tasks.length == 0) {
+            if (lastFrameStats.total() != 0) lastFrameStats = new CullStats(0, 0, 0);
+            return;
+        }
+
+        double maxDistanceSqr = maxDistance > 0.0 ? maxDistance * maxDistance : Double.POSITIVE_INFINITY;
+        int rendered = 0;
+        int frustumCulled = 0;
+        int distanceCulled = 0;
+        for (RenderTask task : tasks) {
+            AABB bounds = task.getBounds();
+            if (bounds != null) {
+                if (bounds.distanceToSqr(cameraPos) > maxDistanceSqr) {
+                    distanceCulled++;
+                    continue;
+                }
+                if (!frustum.isVisible(bounds)) {
+                    frustumCulled++;
+                    continue;
+                }
             }
+            task.render(partialTicks, poseStack, bufferSource);
+            rendered++;
+        }
+        CullStats stats = lastFrameStats;
+        if (stats.rendered() != rendered || stats.frustumCulled() != frustumCulled || stats.distanceCulled() != distanceCulled) {
+            lastFrameStats = new CullStats(rendered, frustumCulled, distanceCulled);
         }
     }
 
+    /**
+     * Render task counts from the most recent {@link #executeAll} call.
+     */
+    public static CullStats lastFrameStats() {
+        return lastFrameStats;
+    }
+
     public static void tickAll() {
-        synchronized (TICK_TASKS) {
-            for (TickTask task : TICK_TASKS) {
-                task.tick();
+        long budgetMicros = ModConfigs.CLIENT.tickTaskBudgetMicros.get();
+        tickAll(budgetMicros > 0 ? budgetMicros * 1_000L : Long.MAX_VALUE);
+    }
+
+    static void tickAll(long budgetNanos) {
+        long start = System.nanoTime();
+        tickCount++;
+
+        long mark = start;
+        for (TickTask task : TICK_TASKS.get(TickTask.Priority.CRITICAL).tasks()) {
+            task.tick();
+        }
+        long now = System.nanoTime();
+        TICK_NANOS[TickTask.Priority.CRITICAL.ordinal()][tickSampleIndex] = now - mark;
+
+        mark = now;
+        for (TickTask task : TICK_TASKS.get(TickTask.Priority.NORMAL).tasks()) {
+            task.tick();
+        }
+        now = System.nanoTime();
+        TICK_NANOS[TickTask.Priority.NORMAL.ordinal()][tickSampleIndex] = now - mark;
+
+        mark = now;
+        TickTask[] cosmetic = TICK_TASKS.get(TickTask.Priority.COSMETIC).tasks();
+        int ran = 0;
+        if (cosmetic.length > 0) {
+            int index = cosmeticCursor % cosmetic.length;
+            // The first cosmetic task always runs so the cursor keeps moving when critical
+            // and normal work alone exhaust the budget.
+            while (ran < cosmetic.length && (ran == 0 || now - start < budgetNanos)) {
+                TickTask task = cosmetic[index];
+                long lastTick = COSMETIC_LAST_TICK.put(task, tickCount);
+                task.tick(lastTick == 0 ? 1 : (int) Math.min(tickCount - lastTick, Integer.MAX_VALUE));
+                ran++;
+                index = (index + 1) % cosmetic.length;
+                now = System.nanoTime();
             }
+            cosmeticCursor = index;
+            deferredTasks += cosmetic.length - ran;
+        }
+        TICK_NANOS[TickTask.Priority.COSMETIC.ordinal()][tickSampleIndex] = now - mark;
+
+        if (now - start > budgetNanos || ran < cosmetic.length) {
+            overrunTicks++;
         }
+        tickSampleIndex = (tickSampleIndex + 1) % LATENCY_SAMPLES;
+        tickSampleCount = Math.min(tickSampleCount + 1, LATENCY_SAMPLES);
     }
 
-    public static void requestRemoveTickTask(TickTask task) {
-        synchronized (TICK_TASKS_TO_REMOVE) {
-            TICK_TASKS_TO_REMOVE.add(task);
+    /**
+     * Budget counters since startup plus tick time percentiles per priority over the last
+     * {@value #LATENCY_SAMPLES} ticks. Allocates; meant for the F3 screen and debugging.
+     */
+    public static TickStats tickStats() {
+        Map<TickTask.Priority, Latency> latencies = new EnumMap<>(TickTask.Priority.class);
+        for (TickTask.Priority priority : PRIORITIES) {
+            long[] samples = Arrays.copyOf(TICK_NANOS[priority.ordinal()], tickSampleCount);
+            Arrays.sort(samples);
+            latencies.put(priority, new Latency(
+                    percentile(samples, 0.50), percentile(samples, 0.95), percentile(samples, 0.99)));
         }
+        return new TickStats(overrunTicks, deferredTasks, latencies);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        return sorted[Math.min(sorted.length - 1, (int) (p * sorted.length))];
+    }
+
+    public static void requestRemoveTickTask(TickTask task) {
+        TICK_TASKS.get(task.getPriority()).requestRemove(task);
     }
 
     public static void requestRemoveRenderTask(RenderTask task) {
-        synchronized (RENDER_TASKS_TO_REMOVE) {
-            RENDER_TASKS_TO_REMOVE.add(task);
-        }
+        RENDER_TASKS.requestRemove(task);
     }
 
     public static void removeRequestedTasks() {
-        synchronized (TICK_TASKS) {
-            if (!TICK_TASKS_TO_REMOVE.isEmpty()) {
-                TICK_TASKS.removeAll(TICK_TASKS_TO_REMOVE);
-                TICK_TASKS_TO_REMOVE.clear();
-            }
-        }
-        synchronized (RENDER_TASKS) {
-            if (!RENDER_TASKS_TO_REMOVE.isEmpty()) {
-                RENDER_TASKS.removeAll(RENDER_TASKS_TO_REMOVE);
-                RENDER_TASKS_TO_REMOVE.clear();
+        for (Map.Entry<TickTask.Priority, TaskList<TickTask>> entry : TICK_TASKS.entrySet()) {
+            TaskList<TickTask> tasks = entry.getValue();
+            if (tasks.drainRemovals() && entry.getKey() == TickTask.Priority.COSMETIC) {
+                COSMETIC_LAST_TICK.keySet().removeIf(task -> !tasks.contains(task));
             }
         }
+        RENDER_TASKS.drainRemovals();
     }
 
     public static boolean hasTickTask(TickTask task) {
-        synchronized (TICK_TASKS) {
-            return TICK_TASKS.contains(task);
-        }
+        return TICK_TASKS.get(task.getPriority()).contains(task);
     }
 
     public static boolean hasRenderTask(RenderTask task) {
-        synchronized (RENDER_TASKS) {
-            return RENDER_TASKS.contains(task);
+        return RENDER_TASKS.contains(task);
+    }
+
+    /**
+     * Copy-on-write task registry. Writers CAS a new {@link Snapshot} in; readers take
+     * whatever snapshot is current and never see a partially updated one.
+     */
+    private static final class TaskList<T> {
+        private final IntFunction<T[]> arrayFactory;
+        private final AtomicReference<Snapshot<T>> snapshot;
+        private final Queue<T> removals = new ConcurrentLinkedQueue<>();
+
+        private TaskList(IntFunction<T[]> arrayFactory) {
+            this.arrayFactory = arrayFactory;
+            this.snapshot = new AtomicReference<>(new Snapshot<>(arrayFactory.apply(0), Set.of()));
+        }
+
+        T[] tasks() {
+            return snapshot.get().tasks();
         }
+
+        boolean contains(T task) {
+            return snapshot.get().members().contains(task);
+        }
+
+        void add(T task) {
+            Snapshot<T> current;
+            Snapshot<T> next;
+            do {
+                current = snapshot.get();
+                if (current.members().contains(task)) return;
+                T[] tasks = current.tasks();
+                T[] grown = arrayFactory.apply(tasks.length + 1);
+                System.arraycopy(tasks, 0, grown, 0, tasks.length);
+                grown[tasks.length] = task;
+                Set<T> members = identitySet(tasks.length + 1);
+                members.addAll(current.members());
+                members.add(task);
+                next = new Snapshot<>(grown, Collections.unmodifiableSet(members));
+            } while (!snapshot.compareAndSet(current, next));
+        }
+
+        void requestRemove(T task) {
+            removals.add(task);
+        }
+
+        /**
+         * Applies every queued removal in one pass over the current snapshot. True if any
+         * registered task was removed.
+         */
+        boolean drainRemovals() {
+            if (removals.isEmpty()) return false;
+            Set<T> removed = identitySet(4);
+            for (T task; (task = removals.poll()) != null; ) {
+                removed.add(task);
+            }
+
+            Snapshot<T> current;
+            Snapshot<T> next;
+            do {
+                current = snapshot.get();
+                T[] tasks = current.tasks();
+                T[] kept = arrayFactory.apply(tasks.length);
+                Set<T> members = identitySet(tasks.length);
+                int size = 0;
+                for (T task : tasks) {
+                    if (!removed.contains(task)) {
+                        kept[size++] = task;
+                        members.add(task);
+                    }
+                }
+                if (size == tasks.length) return false;
+                T[] trimmed = arrayFactory.apply(size);
+                System.arraycopy(kept, 0, trimmed, 0, size);
+                next = new Snapshot<>(trimmed, Collections.unmodifiableSet(members));
+            } while (!snapshot.compareAndSet(current, next));
+            return true;
+        }
+
+        private static <T> Set<T> identitySet(int expectedSize) {
+            return Collections.newSetFromMap(new IdentityHashMap<>(expectedSize));
+        }
+    }
+
+    private record Snapshot<T>(T[] tasks, Set<T> members) {
+    }
+
+    public record CullStats(int rendered, int frustumCulled, int distanceCulled) {
+        public int total() {
+            return rendered + frustumCulled + distanceCulled;
+        }
+    }
+
+    /**
+     * Tick pass time percentiles for one priority class, in nanoseconds.
+     */
+    public record Latency(long p50Nanos, long p95Nanos, long p99Nanos) {
+    }
+
+    /**
+     * @param overrunTicks  ticks whose task passes exceeded the budget or deferred cosmetic work
+     * @param deferredTasks cosmetic task ticks postponed to a later tick
+     */
+    public record TickStats(long overrunTicks, long deferredTasks, Map<TickTask.Priority, Latency> latencies) {
     }
 }
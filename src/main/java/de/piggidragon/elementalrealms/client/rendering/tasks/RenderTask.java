@@ -2,10 +2,21 @@ package de.piggidragon.elementalrealms.client.rendering.tasks;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Renders once per frame, with sub-tick interpolation for smooth visuals.
  */
 public interface RenderTask {
     void render(float partialTicks, PoseStack poseStack, MultiBufferSource bufferSource);
+
+    /**
+     * World-space box enclosing everything this task draws this frame. {@link RenderManager}
+     * skips the task when the box is outside the camera frustum or beyond the configured
+     * max distance. {@code null} (the default) opts out of culling.
+     */
+    default @Nullable AABB getBounds() {
+        return null;
+    }
 }
@@ -5,4 +5,42 @@ package de.piggidragon.elementalrealms.client.rendering.tasks;
  */
 public interface TickTask {
     void tick();
+
+    /**
+     * Called instead of {@link #tick()} for {@link Priority#COSMETIC} tasks, with the number
+     * of client ticks since this task last ran (1 unless it was deferred). Effects that must
+     * stay in step with game time advance by {@code elapsedTicks} here rather than
+     * freezing while deferred. Defaults to a single {@link #tick()}.
+     */
+    default void tick(int elapsedTicks) {
+        tick();
+    }
+
+    /**
+     * Scheduling class; must not change while the task is registered. Defaults to
+     * {@link Priority#NORMAL}.
+     */
+    default Priority getPriority() {
+        return Priority.NORMAL;
+    }
+
+    /**
+     * How {@link RenderManager#tickAll()} treats a task when the per-tick budget runs out.
+     */
+    enum Priority {
+        /**
+         * Runs first, every tick.
+         */
+        CRITICAL,
+        /**
+         * Runs every tick, after critical tasks.
+         */
+        NORMAL,
+        /**
+         * Runs while the tick budget lasts, and at least one per tick; tasks that don't fit
+         * roll over to the next tick, round-robin, and are told how many ticks they missed
+         * through {@link #tick(int)}.
+         */
+        COSMETIC
+    }
 }
@@ -2,6 +2,7 @@ package de.piggidragon.elementalrealms.events;
 
 import de.piggidragon.elementalrealms.ElementalRealms;
 import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
 import de.piggidragon.elementalrealms.magic.affinities.ModAffinities;
 import de.piggidragon.elementalrealms.magic.affinities.helper.AffinitiesRoll;
 import de.piggidragon.elementalrealms.registries.configs.AffinityConfig;
@@ -10,8 +11,6 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 
-import java.util.Map;
-
 /**
  * Assigns random affinities to first-time players on login.
  *
@@ -35,10 +34,11 @@ public final class PlayerLoginHandler {
         if (!(event.getEntity() instanceof ServerPlayer player)) return;
         if (!ModAffinities.getAffinities(player).isEmpty()) return;
 
-        for (Map.Entry<Affinity, Integer> entry : AffinitiesRoll.rollAffinities(player).entrySet()) {
-            Affinity affinity = entry.getKey();
+        // Ordinal order grants Elementals before the Deviants that depend on them.
+        AffinityState rolled = AffinitiesRoll.rollAffinities(player);
+        for (Affinity affinity : rolled.held()) {
             if (affinity == Affinity.VOID) continue;
-            int completion = entry.getValue();
+            int completion = rolled.get(affinity);
             try {
                 if (completion >= AffinityConfig.maxCompletionPercent()) {
                     ModAffinities.addAffinity(player, affinity);
@@ -0,0 +1,49 @@
+package de.piggidragon.elementalrealms.events;
+
+import de.piggidragon.elementalrealms.ElementalRealms;
+import de.piggidragon.elementalrealms.saveddata.RealmSpawnData;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.LevelAccessor;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.ExplosionEvent;
+
+/**
+ * Drops cached realm spawn positions when the terrain in their column changes, so the
+ * next teleport re-resolves the surface height instead of landing players in a block.
+ */
+@EventBusSubscriber(modid = ElementalRealms.MODID)
+public final class RealmSpawnInvalidationHandler {
+
+    private RealmSpawnInvalidationHandler() {
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onBlockBreak(BlockEvent.BreakEvent event) {
+        if (event.isCanceled()) return;
+        invalidate(event.getLevel(), event.getPos());
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onBlockPlace(BlockEvent.EntityPlaceEvent event) {
+        if (event.isCanceled()) return;
+        invalidate(event.getLevel(), event.getPos());
+    }
+
+    @SubscribeEvent
+    public static void onExplosion(ExplosionEvent.Detonate event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+        RealmSpawnData data = RealmSpawnData.get(level.getServer());
+        for (BlockPos pos : event.getAffectedBlocks()) {
+            data.invalidateIfInColumn(level.dimension(), pos);
+        }
+    }
+
+    private static void invalidate(LevelAccessor accessor, BlockPos pos) {
+        if (!(accessor instanceof ServerLevel level)) return;
+        RealmSpawnData.get(level.getServer()).invalidateIfInColumn(level.dimension(), pos);
+    }
+}
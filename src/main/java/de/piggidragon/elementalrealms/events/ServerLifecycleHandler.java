@@ -0,0 +1,44 @@
+package de.piggidragon.elementalrealms.events;
+
+import de.piggidragon.elementalrealms.ElementalRealms;
+import de.piggidragon.elementalrealms.client.particles.ParticleDispatcher;
+import de.piggidragon.elementalrealms.registries.level.DynamicDimensionHandler;
+import de.piggidragon.elementalrealms.registries.level.RealmPool;
+import de.piggidragon.elementalrealms.registries.level.RealmSpawnPregen;
+import de.piggidragon.elementalrealms.util.entities.portal.PortalRegistry;
+import de.piggidragon.elementalrealms.util.entities.portal.PortalScheduler;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+
+/**
+ * Tears down per-server mod state when the server stops.
+ */
+@EventBusSubscriber(modid = ElementalRealms.MODID)
+public final class ServerLifecycleHandler {
+
+    private ServerLifecycleHandler() {
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        RealmPool.clear();
+        RealmSpawnPregen.clear();
+        PortalRegistry.clear();
+        ParticleDispatcher.clear();
+    }
+
+    /**
+     * State that the final world save still reads. {@code ServerStoppingEvent} fires before
+     * chunks and entities are saved, so clearing it there would corrupt what gets written.
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        // Portals compute their saved remaining lifetime from the scheduler clock.
+        PortalScheduler.clear();
+        // stopServer drains pending chunk work after the stopping event; realm generators
+        // still read their generation center during that drain.
+        DynamicDimensionHandler.shutdown();
+    }
+}
@@ -1,7 +1,11 @@
 package de.piggidragon.elementalrealms.events;
 
 import de.piggidragon.elementalrealms.ElementalRealms;
+import de.piggidragon.elementalrealms.client.particles.ParticleDispatcher;
 import de.piggidragon.elementalrealms.registries.items.magic.equipment.hand.custom.SchoolStaff;
+import de.piggidragon.elementalrealms.registries.level.RealmPool;
+import de.piggidragon.elementalrealms.registries.level.RealmSpawnPregen;
+import de.piggidragon.elementalrealms.util.entities.portal.PortalScheduler;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
@@ -17,6 +21,11 @@ public final class ServerTickHandler {
 
     @SubscribeEvent
     public static void onServerTick(ServerTickEvent.Pre event) {
-        SchoolStaff.tickAnimations();
+        // Close the previous tick's particle counters before anything below sends more.
+        ParticleDispatcher.tick();
+        SchoolStaff.tickPendingPortals();
+        RealmPool.tick(event.getServer());
+        RealmSpawnPregen.tick(event.getServer());
+        PortalScheduler.tick();
     }
 }
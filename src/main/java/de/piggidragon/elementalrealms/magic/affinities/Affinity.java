@@ -43,6 +43,19 @@ public enum Affinity {
     public static final Codec<Affinity> CODEC =
             Codec.STRING.xmap(Affinity::valueOf, Affinity::name);
 
+    private static final Affinity[] VALUES = values();
+    private static final List<Affinity> ALL_ELEMENTAL = Arrays.stream(VALUES)
+            .filter(a -> a.getType() == AffinityType.ELEMENTAL)
+            .toList();
+    // Indexed by AffinityType ordinal: bit (1 << ordinal) set for every affinity of that type.
+    private static final int[] TYPE_MASKS = new int[AffinityType.values().length];
+
+    static {
+        for (Affinity affinity : VALUES) {
+            TYPE_MASKS[affinity.type.ordinal()] |= affinity.bit();
+        }
+    }
+
     private final AffinityType type;
 
     Affinity(AffinityType type) {
@@ -51,12 +64,46 @@ public enum Affinity {
 
     /**
      * The four ELEMENTAL affinities (Fire, Water, Wind, Earth). Used by the login roll
-     * (Stage 1 random pick) and as the prerequisite tier for DEVIANT grants.
+     * (Stage 1 random pick) and as the prerequisite tier for DEVIANT grants. Cached and
+     * immutable.
      */
     public static List<Affinity> getAllElemental() {
-        return Arrays.stream(values())
-                .filter(a -> a.getType() == AffinityType.ELEMENTAL)
-                .toList();
+        return ALL_ELEMENTAL;
+    }
+
+    /**
+     * Affinity whose {@link #bit()} is {@code 1 << ordinal}.
+     */
+    public static Affinity byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Bit {@code ordinal} set for every affinity of {@code type}.
+     */
+    public static int mask(AffinityType type) {
+        return TYPE_MASKS[type.ordinal()];
+    }
+
+    /**
+     * Maps a mask of ELEMENTAL bits to the mask of their DEVIANTs
+     * ({@code FIRE|WIND -> LIGHTNING|SOUND}). Non-elemental bits are ignored.
+     */
+    public static int deviantsOf(int elementalMask) {
+        int remaining = elementalMask & mask(AffinityType.ELEMENTAL);
+        int deviants = 0;
+        while (remaining != 0) {
+            deviants |= VALUES[Integer.numberOfTrailingZeros(remaining)].getDeviant().bit();
+            remaining &= remaining - 1;
+        }
+        return deviants;
+    }
+
+    /**
+     * {@code 1 << ordinal}; the key used by {@link AffinityState} masks.
+     */
+    public int bit() {
+        return 1 << ordinal();
     }
 
     public AffinityType getType() {
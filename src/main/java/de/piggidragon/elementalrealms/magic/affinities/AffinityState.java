@@ -0,0 +1,269 @@
+package de.piggidragon.elementalrealms.magic.affinities;
+
+import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a player's affinities: one completion byte per {@link Affinity}
+ * ordinal plus a presence mask (an affinity can be held at 0%, e.g. {@code VOID}).
+ * Tier queries ({@link #hasEternal()}, {@link #hasBase(Affinity)}) intersect a mask cached
+ * at construction with the tier masks on {@link Affinity}, so they are O(1) and
+ * allocation-free.
+ *
+ * <p>Persisted with {@link #CODEC} as the same name-keyed {@code {"FIRE": 100, ...}} map
+ * the attachment used before this type existed, so existing saves load unchanged and
+ * reordering the enum can't corrupt them. {@link #STREAM_CODEC} is the compact wire form:
+ * a VarInt presence mask followed by one unsigned byte per held affinity in ordinal order.</p>
+ */
+public final class AffinityState {
+
+    public static final int FULL_COMPLETION = 100;
+
+    private static final Affinity[] AFFINITIES = Affinity.values();
+
+    public static final AffinityState EMPTY = new AffinityState(new byte[AFFINITIES.length], 0);
+
+    public static final Codec<AffinityState> CODEC = Codec.unboundedMap(Affinity.CODEC, Codec.INT)
+            .xmap(AffinityState::of, AffinityState::asMap);
+
+    public static final StreamCodec<ByteBuf, AffinityState> STREAM_CODEC = StreamCodec.of(
+            (buf, state) -> {
+                VarInt.write(buf, state.heldMask);
+                for (Affinity affinity : AFFINITIES) {
+                    if (state.has(affinity)) {
+                        buf.writeByte(state.completions[affinity.ordinal()]);
+                    }
+                }
+            },
+            buf -> {
+                int heldMask = VarInt.read(buf);
+                byte[] completions = new byte[AFFINITIES.length];
+                for (Affinity affinity : AFFINITIES) {
+                    if ((heldMask & affinity.bit()) != 0) {
+                        completions[affinity.ordinal()] = buf.readByte();
+                    }
+                }
+                return new AffinityState(completions, heldMask);
+            }
+    );
+
+    private final byte[] completions;
+    private final int heldMask;
+    private final int completeMask;
+    private Map<Affinity, Integer> mapView;
+
+    private AffinityState(byte[] completions, int heldMask) {
+        this.completions = completions;
+        this.heldMask = heldMask;
+        this.completeMask = completeMask(completions, heldMask);
+    }
+
+    /**
+     * Converts a legacy {@code Map<Affinity, Integer>}. Completions are clamped to 0..255.
+     */
+    public static AffinityState of(Map<Affinity, Integer> map) {
+        if (map.isEmpty()) return EMPTY;
+        Builder builder = builder();
+        map.forEach(builder::put);
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder(EMPTY);
+    }
+
+    public static Builder builder(AffinityState base) {
+        return new Builder(base);
+    }
+
+    public boolean has(Affinity affinity) {
+        return (heldMask & affinity.bit()) != 0;
+    }
+
+    /**
+     * Completion percent for {@code affinity}, or 0 if it isn't held.
+     */
+    public int get(Affinity affinity) {
+        return has(affinity) ? Byte.toUnsignedInt(completions[affinity.ordinal()]) : 0;
+    }
+
+    public AffinityState with(Affinity affinity, int completion) {
+        if (has(affinity) && get(affinity) == clampCompletion(completion)) return this;
+        return builder(this).put(affinity, completion).build();
+    }
+
+    public AffinityState without(Affinity affinity) {
+        if (!has(affinity)) return this;
+        return builder(this).remove(affinity).build();
+    }
+
+    public boolean isEmpty() {
+        return heldMask == 0;
+    }
+
+    public int size() {
+        return Integer.bitCount(heldMask);
+    }
+
+    /**
+     * Bit {@code ordinal} set for every held affinity.
+     */
+    public int heldMask() {
+        return heldMask;
+    }
+
+    /**
+     * Bit {@code ordinal} set for every affinity held at {@link #FULL_COMPLETION}.
+     */
+    public int completeMask() {
+        return completeMask;
+    }
+
+    /**
+     * Whether any affinity of {@code type} is held at {@link #FULL_COMPLETION}.
+     */
+    public boolean hasComplete(AffinityType type) {
+        return (completeMask & Affinity.mask(type)) != 0;
+    }
+
+    /**
+     * Whether the player has committed to an Eternal (held at 100%). Partial Eternals
+     * don't count.
+     */
+    public boolean hasEternal() {
+        return hasComplete(AffinityType.ETERNAL);
+    }
+
+    /**
+     * Whether the Elemental base of {@code deviant} is held at 100%. False for
+     * non-deviant affinities.
+     */
+    public boolean hasBase(Affinity deviant) {
+        Affinity base = deviant.getElemental();
+        return base != Affinity.VOID && (completeMask & base.bit()) != 0;
+    }
+
+    /**
+     * Held affinities in ordinal order.
+     */
+    public List<Affinity> held() {
+        List<Affinity> held = new ArrayList<>(size());
+        for (Affinity affinity : AFFINITIES) {
+            if (has(affinity)) held.add(affinity);
+        }
+        return held;
+    }
+
+    /**
+     * Read-only {@code Map} view in ordinal order, built once per state.
+     */
+    public Map<Affinity, Integer> asMap() {
+        Map<Affinity, Integer> view = mapView;
+        if (view == null) {
+            Map<Affinity, Integer> map = new EnumMap<>(Affinity.class);
+            for (Affinity affinity : AFFINITIES) {
+                if (has(affinity)) map.put(affinity, get(affinity));
+            }
+            view = mapView = Collections.unmodifiableMap(map);
+        }
+        return view;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AffinityState other)) return false;
+        if (heldMask != other.heldMask) return false;
+        for (Affinity affinity : AFFINITIES) {
+            if (has(affinity) && completions[affinity.ordinal()] != other.completions[affinity.ordinal()]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * heldMask + asMap().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AffinityState" + asMap();
+    }
+
+    private static int completeMask(byte[] completions, int heldMask) {
+        int complete = 0;
+        int remaining = heldMask;
+        while (remaining != 0) {
+            int ordinal = Integer.numberOfTrailingZeros(remaining);
+            if (Byte.toUnsignedInt(completions[ordinal]) >= FULL_COMPLETION) {
+                complete |= 1 << ordinal;
+            }
+            remaining &= remaining - 1;
+        }
+        return complete;
+    }
+
+    private static int clampCompletion(int completion) {
+        return Math.clamp(completion, 0, 255);
+    }
+
+    /**
+     * Mutable builder; {@link #build()} copies, so a builder can keep being used.
+     */
+    public static final class Builder {
+        private final byte[] completions;
+        private int heldMask;
+
+        private Builder(AffinityState base) {
+            this.completions = Arrays.copyOf(base.completions, AFFINITIES.length);
+            this.heldMask = base.heldMask;
+        }
+
+        public Builder put(Affinity affinity, int completion) {
+            completions[affinity.ordinal()] = (byte) clampCompletion(completion);
+            heldMask |= affinity.bit();
+            return this;
+        }
+
+        public Builder remove(Affinity affinity) {
+            completions[affinity.ordinal()] = 0;
+            heldMask &= ~affinity.bit();
+            return this;
+        }
+
+        public boolean has(Affinity affinity) {
+            return (heldMask & affinity.bit()) != 0;
+        }
+
+        public int get(Affinity affinity) {
+            return has(affinity) ? Byte.toUnsignedInt(completions[affinity.ordinal()]) : 0;
+        }
+
+        public int heldMask() {
+            return heldMask;
+        }
+
+        /**
+         * As {@link AffinityState#completeMask()}, computed from the current contents.
+         */
+        public int completeMask() {
+            return AffinityState.completeMask(completions, heldMask);
+        }
+
+        public AffinityState build() {
+            if (heldMask == 0) return EMPTY;
+            return new AffinityState(Arrays.copyOf(completions, AFFINITIES.length), heldMask);
+        }
+    }
+}
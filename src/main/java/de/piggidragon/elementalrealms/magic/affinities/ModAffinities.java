@@ -1,18 +1,17 @@
 package de.piggidragon.elementalrealms.magic.affinities;
 
 import de.piggidragon.elementalrealms.registries.attachments.ModAttachments;
+import de.piggidragon.elementalrealms.registries.attachments.sync.AffinitySync;
 import de.piggidragon.elementalrealms.registries.configs.AffinityConfig;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Server-side manager for player affinities. Enforces tier rules and
- * triggers sound + client sync when affinities change.
+ * triggers sound + client sync when affinities change. Changes are committed through
+ * {@link AffinitySync}, which sends only the changed entries to the client.
  */
 public final class ModAffinities {
 
@@ -29,19 +28,17 @@ public final class ModAffinities {
      * partial rolls (shard items, stage 2/3 login partials); see {@link #addIncrementAffinity}.</p>
      */
     public static void addAffinity(ServerPlayer player, Affinity affinity) {
-        Map<Affinity, Integer> current = getAffinities(player);
+        AffinityState current = getAffinities(player);
 
-        if (current.getOrDefault(affinity, 0) >= 100) {
+        if (current.get(affinity) >= 100) {
             throw new IllegalStateException("Player already has affinity: " + affinity);
         }
         validateCanAdd(affinity, current);
 
-        Map<Affinity, Integer> next = new HashMap<>(current);
-        next.remove(Affinity.VOID);
-        next.put(affinity, 100);
+        AffinityState next = current.without(Affinity.VOID).with(affinity, 100);
 
         player.playNotifySound(playAffinitySound(player, affinity), SoundSource.PLAYERS, 0.5f, 0.5f);
-        player.setData(ModAttachments.AFFINITIES.get(), next);
+        AffinitySync.commit(player, next);
     }
 
     /**
@@ -57,11 +54,10 @@ public final class ModAffinities {
      * in {@link de.piggidragon.elementalrealms.magic.affinities.helper.AffinitiesRoll}).
      */
     public static void addIncrementAffinity(ServerPlayer player, Affinity affinity, int increment) {
-        Map<Affinity, Integer> current = getAffinities(player);
+        AffinityState current = getAffinities(player);
         validateCanAdd(affinity, current);
 
-        Map<Affinity, Integer> next = new HashMap<>(current);
-        int newCompletion = next.getOrDefault(affinity, 0) + increment;
+        int newCompletion = current.get(affinity) + increment;
 
         if (newCompletion > 100) {
             throw new IllegalStateException("Already completed: " + affinity);
@@ -72,24 +68,18 @@ public final class ModAffinities {
                 : playAffinitySound(player, affinity);
         player.playNotifySound(sound, SoundSource.PLAYERS, 0.5f, 0.5f);
 
-        next.remove(Affinity.VOID);
-        next.put(affinity, newCompletion);
-        player.setData(ModAttachments.AFFINITIES.get(), next);
+        AffinitySync.commit(player, current.without(Affinity.VOID).with(affinity, newCompletion));
     }
 
     /**
      * Resets the player to a single VOID affinity at 0%. Throws if already void.
      */
     public static void clearAffinities(ServerPlayer player) {
-        Map<Affinity, Integer> current = getAffinities(player);
-        if (current.containsKey(Affinity.VOID)) {
+        if (getAffinities(player).has(Affinity.VOID)) {
             throw new IllegalStateException("Player has no affinities to clear.");
         }
 
-        Map<Affinity, Integer> next = new HashMap<>(current);
-        next.clear();
-        next.put(Affinity.VOID, 0);
-        player.setData(ModAttachments.AFFINITIES.get(), next);
+        AffinitySync.commit(player, AffinityState.EMPTY.with(Affinity.VOID, 0));
     }
 
     /**
@@ -126,8 +116,8 @@ public final class ModAffinities {
             throw new IllegalArgumentException("Completion must be 0..100, got " + completion);
         }
 
-        Map<Affinity, Integer> current = getAffinities(player);
-        int currentValue = current.getOrDefault(affinity, 0);
+        AffinityState current = getAffinities(player);
+        int currentValue = current.get(affinity);
 
         // Already-completed guard: same exact value or already maxed.
         if (completion == 100 && currentValue >= 100) {
@@ -146,7 +136,7 @@ public final class ModAffinities {
             // all-or-nothing (one per player, granted only via stones / events). The
             // debug `affinities set <aff> 50` command for an Eternal is rejected with a
             // clear hint instead of silently creating an inconsistent state where a
-            // different Eternal-add would then get blocked by hasEternalAffinity.
+            // different Eternal-add would then get blocked by AffinityState.hasEternal.
             if (affinity.getType() == AffinityType.ETERNAL && completion < 100) {
                 throw new IllegalArgumentException(
                         "Eternal affinities cannot be set to partial completion (got " + completion + "%). "
@@ -158,24 +148,20 @@ public final class ModAffinities {
             validateCanAdd(affinity, current);
         }
 
-        Map<Affinity, Integer> next = new HashMap<>(current);
-        next.remove(Affinity.VOID);
-        if (completion == 0) {
-            next.remove(affinity); // remove this entry, keep other affinities intact
-        } else {
-            next.put(affinity, completion);
-        }
+        AffinityState next = current.without(Affinity.VOID);
+        next = completion == 0
+                ? next.without(affinity) // remove this entry, keep other affinities intact
+                : next.with(affinity, completion);
 
         player.playNotifySound(playAffinitySound(player, affinity), SoundSource.PLAYERS, 0.5f, 0.5f);
-        player.setData(ModAttachments.AFFINITIES.get(), next);
+        AffinitySync.commit(player, next);
     }
 
     /**
-     * Reads the player's current affinities map from the {@code AFFINITIES} attachment.
-     * Returns an empty map (never {@code null}) for fresh players or after
-     * {@link #clearAffinities}.
+     * Reads the player's current affinities from the {@code AFFINITIES} attachment.
+     * Returns {@link AffinityState#EMPTY} (never {@code null}) for fresh players.
      */
-    public static Map<Affinity, Integer> getAffinities(ServerPlayer player) {
+    public static AffinityState getAffinities(ServerPlayer player) {
         return player.getData(ModAttachments.AFFINITIES.get());
     }
 
@@ -184,7 +170,7 @@ public final class ModAffinities {
      * via {@link #setAffinity} removal does NOT count — the entry must be present).
      */
     public static boolean hasAffinity(ServerPlayer player, Affinity affinity) {
-        return getAffinities(player).containsKey(affinity);
+        return getAffinities(player).has(affinity);
     }
 
     /**
@@ -217,32 +203,20 @@ public final class ModAffinities {
      * </ul>
      * Used by {@link #addAffinity}, {@link #addIncrementAffinity}, and {@link #setAffinity}.
      */
-    private static void validateCanAdd(Affinity affinity, Map<Affinity, Integer> current) {
-        if (affinity.getType() == AffinityType.ETERNAL && hasEternalAffinity(current)) {
+    private static void validateCanAdd(Affinity affinity, AffinityState current) {
+        // Eternal must be at 100% (committed) to count as "the player's eternal" — symmetric
+        // with the DEVIANT base check. Partial entries (e.g. force-set via debug command)
+        // don't block a different Eternal affinity from being granted.
+        if (affinity.getType() == AffinityType.ETERNAL && current.hasEternal()) {
             throw new IllegalStateException("Player already has an eternal affinity");
         }
-        if (affinity.getType() == AffinityType.DEVIANT && !hasBaseAffinity(current, affinity)) {
+        // Base Elemental must be at 100% (Stage-1 hardcoded value) to validate a Deviant.
+        // The configurable caps don't apply here - a Deviant always needs its full-strength
+        // base, by spec.
+        if (affinity.getType() == AffinityType.DEVIANT && !current.hasBase(affinity)) {
             throw new IllegalStateException(
                     "Player is missing base affinity for deviant: " + affinity.getElemental()
             );
         }
     }
-
-    private static boolean hasEternalAffinity(Map<Affinity, Integer> affinities) {
-        // Eternal must be at 100% (committed) to count as "the player's eternal" — symmetric
-        // with hasBaseAffinity for DEVIANT. Partial entries (e.g. force-set via debug
-        // command) don't block a different Eternal affinity from being granted.
-        return affinities.entrySet().stream()
-                .anyMatch(entry ->
-                        entry.getKey().getType() == AffinityType.ETERNAL && entry.getValue() >= 100);
-    }
-
-    private static boolean hasBaseAffinity(Map<Affinity, Integer> affinities, Affinity deviant) {
-        // Base Elemental must be at 100% (Stage-1 hardcoded value) to validate a Deviant.
-        // The configurable caps don't apply here - a Deviant always needs its full-strength
-        // base, by spec (the spec defines ELEMENTAL / DEVIANT / ETERNAL tiers explicitly).
-        return affinities.entrySet().stream()
-                .anyMatch(entry ->
-                        entry.getKey().getDeviant() == deviant && entry.getValue() >= 100);
-    }
 }
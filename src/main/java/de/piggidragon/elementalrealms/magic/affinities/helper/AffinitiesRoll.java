@@ -1,6 +1,7 @@
 package de.piggidragon.elementalrealms.magic.affinities.helper;
 
 import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
 import de.piggidragon.elementalrealms.magic.affinities.AffinityType;
 import de.piggidragon.elementalrealms.magic.affinities.ModAffinities;
 import de.piggidragon.elementalrealms.registries.attachments.ModAttachments;
@@ -8,10 +9,6 @@ import de.piggidragon.elementalrealms.registries.configs.AffinityConfig;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.RandomSource;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 /**
  * Three-stage affinity assignment for new players (issue #23).
  *
@@ -37,8 +34,8 @@ import java.util.Map;
  * the configured ceiling (default 80%) regardless of any other config setting.</p>
  *
  * <p>Stages 2 and 3 read "what the player already holds" from this method's local
- * {@code result} map, NOT from {@link ModAffinities#getAffinities(ServerPlayer)}. Reason:
- * Stage 1 writes to the local map but does not commit to the player's attachment, so a later
+ * {@code result} builder, NOT from {@link ModAffinities#getAffinities(ServerPlayer)}. Reason:
+ * Stage 1 writes to the local builder but does not commit to the player's attachment, so a later
  * stage that read from the attachment would not see the Stage-1 element as already-assigned
  * and could re-pick it as a Stage-3 candidate \u2014 silently overwriting the 100% with a partial
  * completion. This was a real bug (symptom: reroll could yield a single partial instead of a
@@ -48,6 +45,11 @@ import java.util.Map;
  * stage 2 only emits the matching DEVIANT of the chosen ELEMENTAL (which is, by definition,
  * DEVIANT-typed), and stage 3 only emits ELEMENTALs or DEVIANTs of the Stage-1 ELEMENTAL
  * (filtered by AffinityType.DEVIANT).</p>
+ *
+ * <p>Candidate pools are {@link Affinity#bit()} masks rather than lists, so picking a
+ * candidate allocates nothing. Picks consume the same {@link RandomSource} calls as the
+ * previous list-based version (a uniform index into the ordinal-ordered pool), so a given
+ * seed still produces the same roll.</p>
  */
 public final class AffinitiesRoll {
 
@@ -55,26 +57,35 @@ public final class AffinitiesRoll {
     }
 
     /**
-     * Generates a map of affinities to add to a player at login.
-     * Returns an empty map if no eligible elemental exists (caller's job to gate on first-login).
+     * Generates the affinities to add to a player at login.
+     * Returns {@link AffinityState#EMPTY} if no eligible elemental exists (caller's job to
+     * gate on first-login).
+     */
+    public static AffinityState rollAffinities(ServerPlayer player) {
+        return roll(player.getRandom(), player.getData(ModAttachments.AFFINITIES.get()), Params.fromConfig());
+    }
+
+    /**
+     * Headless form of {@link #rollAffinities}: rolls against {@code prior} (what the player
+     * already holds) with an explicit random source and config snapshot. Touches no game
+     * state, so {@link AffinitiesRollSimulator} can call it from worker threads.
      */
-    public static Map<Affinity, Integer> rollAffinities(ServerPlayer player) {
-        RandomSource random = player.getRandom();
-        Map<Affinity, Integer> result = new HashMap<>();
+    public static AffinityState roll(RandomSource random, AffinityState prior, Params params) {
+        AffinityState.Builder result = AffinityState.builder();
 
         // Stage 1: guaranteed ELEMENTAL @ 100%. Hardcoded anchor by spec.
-        Affinity guaranteed = rollFreshElemental(player, random);
+        Affinity guaranteed = rollFreshElemental(prior, random);
         if (guaranteed == Affinity.VOID) {
-            return result;
+            return AffinityState.EMPTY;
         }
         result.put(guaranteed, 100);
 
         // Stage 2: rare DEVIANT of the guaranteed Elemental, partial completion.
         Affinity deviant = guaranteed.getDeviant();
         if (deviant != Affinity.VOID
-                && !result.containsKey(deviant)
-                && chance(random, AffinityConfig.deviantPartialChancePercent())) {
-            int completion = rollCompletion(random, AffinityConfig.deviantMaxCompletionPercent());
+                && !result.has(deviant)
+                && chance(random, params.deviantPartialChancePercent())) {
+            int completion = rollCompletion(random, params.deviantMaxCompletionPercent(), params.partialCompletionSlope());
             if (completion > 0) {
                 result.put(deviant, completion);
             }
@@ -82,87 +93,89 @@ public final class AffinitiesRoll {
 
         // Stage 3: decaying loop for additional affinities. Reads pool from local result,
         // NOT from the player attachment, so Stage 1's pick is seen as already-assigned.
-        int continueChance = AffinityConfig.elementalContinueChanceStartPercent();
-        for (int i = 0; i < AffinityConfig.elementalMaxIterations(); i++) {
+        int continueChance = params.elementalContinueChanceStartPercent();
+        for (int i = 0; i < params.elementalMaxIterations(); i++) {
             if (!chance(random, continueChance)) {
                 break;
             }
-            Affinity candidate = pickPartialCandidate(result, random);
+            Affinity candidate = pickPartialCandidate(result, random, params.partialDeviantWeightPercent());
             if (candidate == Affinity.VOID) {
                 break; // pool exhausted
             }
-            int completion = rollCompletion(random, AffinityConfig.elementalMaxCompletionPercent());
+            int completion = rollCompletion(random, params.elementalMaxCompletionPercent(), params.partialCompletionSlope());
             if (completion > 0) {
                 result.put(candidate, completion);
             }
-            continueChance = Math.max(1, continueChance * AffinityConfig.elementalContinueChanceDecayPercent() / 100);
+            continueChance = Math.max(1, continueChance * params.elementalContinueChanceDecayPercent() / 100);
         }
-        return result;
+        return result.build();
     }
 
     /**
      * Picks a random ELEMENTAL the player does not yet hold. Returns VOID if all 4 are taken.
-     * Reads from the local {@code result} map for consistency with stages 2 and 3.
      */
-    private static Affinity rollFreshElemental(ServerPlayer player, RandomSource random) {
+    private static Affinity rollFreshElemental(AffinityState prior, RandomSource random) {
         // Stage 1 reads the player attachment as source of truth for what's already held.
         // On a fresh login this is empty; on a reroll, clearAffinities() was called first by
         // the caller so this contains only {VOID: 0}. Either way, every ELEMENTAL is available.
-        Map<Affinity, Integer> attachment = player.getData(ModAttachments.AFFINITIES.get());
-        List<Affinity> available = Affinity.getAllElemental().stream()
-                .filter(a -> !attachment.containsKey(a))
-                .toList();
-        if (available.isEmpty()) {
-            return Affinity.VOID;
-        }
-        return available.get(random.nextInt(available.size()));
+        return pickFromMask(Affinity.mask(AffinityType.ELEMENTAL) & ~prior.heldMask(), random);
     }
 
     /**
      * Picks a candidate for stage 3 (partial roll). Reads "what's already assigned" from
-     * the local {@code result} map so it sees Stage 1's pick and never re-selects it.
+     * the local {@code result} builder so it sees Stage 1's pick and never re-selects it.
      * <p>Rules:</p>
      * <ul>
      *   <li>DEVIANT candidates: their matching Elemental must be held at 100% in
      *       {@code result} (i.e. the guaranteed one). The candidate itself must not
      *       already be in {@code result} (Stage 2 may have claimed it).</li>
      *   <li>ELEMENTAL candidates: any elemental not already in {@code result}.</li>
-     *   <li>Weight {@code partialDeviantWeightPercent()}% chance to pick a Deviant over an
+     *   <li>Weight {@code deviantWeightPercent}% chance to pick a Deviant over an
      *       Elemental. If the chosen pool is empty, fall back to the other pool before
      *       returning VOID.</li>
      * </ul>
      */
-    private static Affinity pickPartialCandidate(Map<Affinity, Integer> result, RandomSource random) {
+    private static Affinity pickPartialCandidate(AffinityState.Builder result, RandomSource random, int deviantWeightPercent) {
+        int held = result.heldMask();
+
         // Elemental pool: any elemental not already in result.
-        List<Affinity> availableElementals = Affinity.getAllElemental().stream()
-                .filter(a -> !result.containsKey(a))
-                .toList();
+        int availableElementals = Affinity.mask(AffinityType.ELEMENTAL) & ~held;
 
         // Deviant pool: deviants of held Elementals @ 100% in result. Stage 1 hardcodes the
         // guaranteed Elemental to 100%, so the only Deviant that ever appears here is the one
-        // matching the guaranteed Elemental — unless Stage 2 already claimed it.
-        List<Affinity> eligibleDeviants = Affinity.getAllElemental().stream()
-                .filter(a -> result.getOrDefault(a, 0) >= 100)
-                .map(Affinity::getDeviant)
-                .filter(d -> d != Affinity.VOID)
-                .filter(d -> !result.containsKey(d))
-                .filter(d -> d.getType() == AffinityType.DEVIANT) // sanity: eternal never eligible
-                .toList();
-
-        if (availableElementals.isEmpty() && eligibleDeviants.isEmpty()) {
+        // matching the guaranteed Elemental — unless Stage 2 already claimed it. deviantsOf
+        // only ever yields DEVIANT bits, so eternals are never eligible.
+        int eligibleDeviants = Affinity.deviantsOf(result.completeMask()) & ~held;
+
+        if (availableElementals == 0 && eligibleDeviants == 0) {
             return Affinity.VOID;
         }
-        if (availableElementals.isEmpty()) {
-            return eligibleDeviants.get(random.nextInt(eligibleDeviants.size()));
+        if (availableElementals == 0) {
+            return pickFromMask(eligibleDeviants, random);
         }
-        if (eligibleDeviants.isEmpty()) {
-            return availableElementals.get(random.nextInt(availableElementals.size()));
+        if (eligibleDeviants == 0) {
+            return pickFromMask(availableElementals, random);
         }
-        boolean pickDeviant = chance(random, AffinityConfig.partialDeviantWeightPercent());
+        boolean pickDeviant = chance(random, deviantWeightPercent);
         if (pickDeviant) {
-            return eligibleDeviants.get(random.nextInt(eligibleDeviants.size()));
+            return pickFromMask(eligibleDeviants, random);
+        }
+        return pickFromMask(availableElementals, random);
+    }
+
+    /**
+     * Uniformly picks one set bit of {@code mask} and returns its affinity, or VOID if the
+     * mask is empty. Equivalent to indexing an ordinal-ordered list of the set bits.
+     */
+    private static Affinity pickFromMask(int mask, RandomSource random) {
+        if (mask == 0) {
+            return Affinity.VOID;
+        }
+        int remaining = mask;
+        for (int skip = random.nextInt(Integer.bitCount(mask)); skip > 0; skip--) {
+            remaining &= remaining - 1; // clear lowest set bit
         }
-        return availableElementals.get(random.nextInt(availableElementals.size()));
+        return Affinity.byOrdinal(Integer.numberOfTrailingZeros(remaining));
     }
 
     /**
@@ -176,9 +189,8 @@ public final class AffinitiesRoll {
      * common, high values are rare. Concretely with {@code slope = 3, maxCompletion = 80}:
      * ~79% of partials are &lt;= 40%, ~9% are &gt; 60%, and the @ max bucket itself is &lt; 1%.</p>
      */
-    private static int rollCompletion(RandomSource random, int maxCompletion) {
+    private static int rollCompletion(RandomSource random, int maxCompletion, double slope) {
         double u = random.nextDouble(); // [0, 1)
-        double slope = AffinityConfig.partialCompletionSlope();
         double skewed = Math.pow(u, slope); // left-skew: u^slope for slope > 1
         int completion = (int) (skewed * maxCompletion);
         if (completion <= 0) {
@@ -190,4 +202,32 @@ public final class AffinitiesRoll {
     private static boolean chance(RandomSource random, int probabilityPercent) {
         return random.nextInt(100) < probabilityPercent;
     }
-}
\ No newline at end of file
+
+    /**
+     * Snapshot of the {@code roll} config section. Taken once per roll (or per simulation)
+     * so a reload mid-run can't mix two configurations.
+     */
+    public record Params(
+            int deviantPartialChancePercent,
+            int deviantMaxCompletionPercent,
+            int partialDeviantWeightPercent,
+            int elementalContinueChanceStartPercent,
+            int elementalContinueChanceDecayPercent,
+            int elementalMaxCompletionPercent,
+            int elementalMaxIterations,
+            double partialCompletionSlope
+    ) {
+        public static Params fromConfig() {
+            return new Params(
+                    AffinityConfig.deviantPartialChancePercent(),
+                    AffinityConfig.deviantMaxCompletionPercent(),
+                    AffinityConfig.partialDeviantWeightPercent(),
+                    AffinityConfig.elementalContinueChanceStartPercent(),
+                    AffinityConfig.elementalContinueChanceDecayPercent(),
+                    AffinityConfig.elementalMaxCompletionPercent(),
+                    AffinityConfig.elementalMaxIterations(),
+                    AffinityConfig.partialCompletionSlope()
+            );
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package de.piggidragon.elementalrealms.magic.affinities.helper;
+
+import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs {@link AffinitiesRoll#roll} in bulk on the common fork-join pool and aggregates the
+ * results into a {@link Histogram}, so the {@code roll} config distribution can be checked
+ * without logging in players.
+ *
+ * <p>Rolls are split into fixed-size chunks, each with its own {@link XoroshiroRandomSource}
+ * seeded from {@code seed + firstRollIndex}. The result for a given seed is therefore the
+ * same no matter how many worker threads run it.</p>
+ */
+public final class AffinitiesRollSimulator {
+
+    private static final int CHUNK_SIZE = 16_384;
+
+    private AffinitiesRollSimulator() {
+    }
+
+    /**
+     * Runs {@link #simulate} on the common pool. The future completes on a worker thread.
+     */
+    public static CompletableFuture<Histogram> simulateAsync(int rolls, long seed, AffinityState prior,
+                                                             AffinitiesRoll.Params params) {
+        return CompletableFuture.supplyAsync(() -> simulate(rolls, seed, prior, params), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Rolls {@code rolls} times against {@code prior} and blocks until every chunk is merged.
+     */
+    public static Histogram simulate(int rolls, long seed, AffinityState prior, AffinitiesRoll.Params params) {
+        return ForkJoinPool.commonPool().invoke(new RollTask(0, rolls, seed, prior, params));
+    }
+
+    private static final class RollTask extends RecursiveTask<Histogram> {
+        private final int from;
+        private final int to;
+        private final long seed;
+        private final AffinityState prior;
+        private final AffinitiesRoll.Params params;
+
+        private RollTask(int from, int to, long seed, AffinityState prior, AffinitiesRoll.Params params) {
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+            this.prior = prior;
+            this.params = params;
+        }
+
+        @Override
+        protected Histogram compute() {
+            if (to - from <= CHUNK_SIZE) {
+                XoroshiroRandomSource random = new XoroshiroRandomSource(seed + from);
+                Histogram histogram = new Histogram();
+                for (int i = from; i < to; i++) {
+                    histogram.record(AffinitiesRoll.roll(random, prior, params));
+                }
+                return histogram;
+            }
+            // Split on a chunk boundary so the per-chunk seeds don't depend on the split depth.
+            int chunks = (to - from + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            int mid = from + (chunks / 2) * CHUNK_SIZE;
+            RollTask left = new RollTask(from, mid, seed, prior, params);
+            left.fork();
+            Histogram right = new RollTask(mid, to, seed, prior, params).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Aggregated roll outcomes. Completions are bucketed by tens: bucket {@code b} counts
+     * completions in {@code [b * 10, b * 10 + 9]}, bucket 10 is exactly 100%.
+     */
+    public static final class Histogram {
+        public static final int BUCKETS = 11;
+
+        private static final int AFFINITY_COUNT = Affinity.values().length;
+
+        private long rolls;
+        private final long[] held = new long[AFFINITY_COUNT];
+        private final long[] completionSums = new long[AFFINITY_COUNT];
+        private final long[][] completionBuckets = new long[AFFINITY_COUNT][BUCKETS];
+        private final long[] sizes = new long[AFFINITY_COUNT + 1];
+
+        private void record(AffinityState state) {
+            rolls++;
+            sizes[state.size()]++;
+            int remaining = state.heldMask();
+            while (remaining != 0) {
+                int ordinal = Integer.numberOfTrailingZeros(remaining);
+                int completion = state.get(Affinity.byOrdinal(ordinal));
+                held[ordinal]++;
+                completionSums[ordinal] += completion;
+                completionBuckets[ordinal][Math.min(completion / 10, BUCKETS - 1)]++;
+                remaining &= remaining - 1;
+            }
+        }
+
+        private Histogram merge(Histogram other) {
+            rolls += other.rolls;
+            for (int i = 0; i < AFFINITY_COUNT; i++) {
+                held[i] += other.held[i];
+                completionSums[i] += other.completionSums[i];
+                for (int b = 0; b < BUCKETS; b++) {
+                    completionBuckets[i][b] += other.completionBuckets[i][b];
+                }
+            }
+            for (int i = 0; i < sizes.length; i++) {
+                sizes[i] += other.sizes[i];
+            }
+            return this;
+        }
+
+        public long rolls() {
+            return rolls;
+        }
+
+        /**
+         * Number of rolls that granted {@code affinity} at any completion.
+         */
+        public long heldCount(Affinity affinity) {
+            return held[affinity.ordinal()];
+        }
+
+        /**
+         * Mean completion of {@code affinity} over the rolls that granted it, or 0.
+         */
+        public double meanCompletion(Affinity affinity) {
+            long count = held[affinity.ordinal()];
+            return count == 0 ? 0.0 : (double) completionSums[affinity.ordinal()] / count;
+        }
+
+        public long completionBucket(Affinity affinity, int bucket) {
+            return completionBuckets[affinity.ordinal()][bucket];
+        }
+
+        /**
+         * Number of rolls that granted exactly {@code size} affinities.
+         */
+        public long sizeCount(int size) {
+            return size < 0 || size >= sizes.length ? 0 : sizes[size];
+        }
+
+        public int maxSize() {
+            return sizes.length - 1;
+        }
+
+        /**
+         * Plain-text summary, one line per entry: the size distribution, then per held
+         * affinity its share of rolls, mean completion and completion buckets. Shared by the
+         * chat command and the standalone simulator so both print the same report.
+         */
+        public List<String> report(long seed, long millis) {
+            double total = rolls;
+            List<String> lines = new ArrayList<>();
+            lines.add(String.format(Locale.ROOT, " %d rolls in %d ms (seed %d)", rolls, millis, seed));
+
+            StringBuilder sizeLine = new StringBuilder(" Affinities per roll:");
+            for (int size = 0; size <= maxSize(); size++) {
+                long count = sizes[size];
+                if (count > 0) {
+                    sizeLine.append(String.format(Locale.ROOT, " %d=%.2f%%", size, 100.0 * count / total));
+                }
+            }
+            lines.add(sizeLine.toString());
+
+            for (Affinity affinity : Affinity.values()) {
+                long heldBy = heldCount(affinity);
+                if (heldBy == 0) continue;
+                lines.add(String.format(Locale.ROOT, " %s: %.2f%% of rolls, mean %.1f%%",
+                        affinity, 100.0 * heldBy / total, meanCompletion(affinity)));
+                StringBuilder buckets = new StringBuilder("   ");
+                for (int b = 0; b < BUCKETS; b++) {
+                    long count = completionBucket(affinity, b);
+                    if (count == 0) continue;
+                    String label = b == BUCKETS - 1 ? "100" : (b * 10) + "-" + (b * 10 + 9);
+                    buckets.append(String.format(Locale.ROOT, " %s:%.1f%%", label, 100.0 * count / heldBy));
+                }
+                lines.add(buckets.toString());
+            }
+            return List.copyOf(lines);
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package de.piggidragon.elementalrealms.packets;
 
 import de.piggidragon.elementalrealms.ElementalRealms;
+import de.piggidragon.elementalrealms.client.particles.effects.ParticleEmitter;
+import de.piggidragon.elementalrealms.client.particles.effects.StaffBeamEffect;
+import de.piggidragon.elementalrealms.client.particles.vanilla.PortalParticles;
 import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
 import de.piggidragon.elementalrealms.packets.custom.affinities.AffinitiesSuccessPacket;
+import de.piggidragon.elementalrealms.packets.custom.affinities.AffinitiesDeltaPacket;
 import de.piggidragon.elementalrealms.packets.custom.affinities.AffinitiesOpenBookPacket;
+import de.piggidragon.elementalrealms.packets.custom.affinities.AffinitiesSnapshotRequestPacket;
+import de.piggidragon.elementalrealms.packets.custom.particles.ParticleEffectPacket;
+import de.piggidragon.elementalrealms.packets.custom.particles.PortalAmbientParticlesPacket;
+import de.piggidragon.elementalrealms.packets.custom.particles.StaffBeamPacket;
 import de.piggidragon.elementalrealms.registries.attachments.ModAttachments;
+import de.piggidragon.elementalrealms.registries.attachments.sync.AffinitySync;
 import de.piggidragon.elementalrealms.registries.guis.menus.custom.AffinityBookMenu;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.particles.ParticleTypes;
@@ -23,7 +33,6 @@ import net.neoforged.neoforge.network.handling.IPayloadContext;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Registers mod network payloads and implements their handlers.
@@ -53,6 +62,31 @@ public final class ModPacketHandler {
                 AffinitiesOpenBookPacket.STREAM_CODEC,
                 ModPacketHandler::handleOpenAffinityBook
         );
+        registrar.playToClient(
+                AffinitiesDeltaPacket.TYPE,
+                AffinitiesDeltaPacket.STREAM_CODEC,
+                ModPacketHandler::handleAffinitiesDelta
+        );
+        registrar.playToServer(
+                AffinitiesSnapshotRequestPacket.TYPE,
+                AffinitiesSnapshotRequestPacket.STREAM_CODEC,
+                ModPacketHandler::handleAffinitiesSnapshotRequest
+        );
+        registrar.playToClient(
+                PortalAmbientParticlesPacket.TYPE,
+                PortalAmbientParticlesPacket.STREAM_CODEC,
+                ModPacketHandler::handlePortalAmbientParticles
+        );
+        registrar.playToClient(
+                ParticleEffectPacket.TYPE,
+                ParticleEffectPacket.STREAM_CODEC,
+                ModPacketHandler::handleParticleEffect
+        );
+        registrar.playToClient(
+                StaffBeamPacket.TYPE,
+                StaffBeamPacket.STREAM_CODEC,
+                ModPacketHandler::handleStaffBeam
+        );
     }
 
     private static void handleAffinitySuccess(AffinitiesSuccessPacket packet, IPayloadContext context) {
@@ -66,14 +100,64 @@ public final class ModPacketHandler {
         });
     }
 
+    private static void handlePortalAmbientParticles(PortalAmbientParticlesPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            if (FMLEnvironment.dist != Dist.CLIENT) return;
+            Minecraft minecraft = Minecraft.getInstance();
+            if (minecraft.level == null) return;
+
+            ParticleEmitter emitter = ParticleEmitter.create(minecraft.level, minecraft.level.random, packet.density());
+            PortalParticles.spawnAmbientRing(emitter, packet.center(),
+                    packet.radius(), packet.count(), packet.phase());
+        });
+    }
+
+    private static void handleParticleEffect(ParticleEffectPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            if (FMLEnvironment.dist != Dist.CLIENT) return;
+            Minecraft minecraft = Minecraft.getInstance();
+            if (minecraft.level == null) return;
+
+            packet.effect().play(minecraft.level, packet.origin(), packet.seed(), packet.density());
+        });
+    }
+
+    private static void handleStaffBeam(StaffBeamPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            if (FMLEnvironment.dist != Dist.CLIENT) return;
+            Minecraft minecraft = Minecraft.getInstance();
+            if (minecraft.level == null) return;
+
+            StaffBeamEffect.start(minecraft.level, packet.start(), packet.target(),
+                    packet.durationTicks(), packet.density());
+        });
+    }
+
+    private static void handleAffinitiesDelta(AffinitiesDeltaPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            if (FMLEnvironment.dist != Dist.CLIENT) return;
+            Minecraft minecraft = Minecraft.getInstance();
+            if (minecraft.player == null) return;
+
+            AffinitySync.applyDelta(minecraft.player, packet);
+        });
+    }
+
+    private static void handleAffinitiesSnapshotRequest(AffinitiesSnapshotRequestPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            if (!(context.player() instanceof ServerPlayer serverPlayer)) return;
+            AffinitySync.resendSnapshot(serverPlayer);
+        });
+    }
+
     private static void handleOpenAffinityBook(AffinitiesOpenBookPacket packet, IPayloadContext context) {
         context.enqueueWork(() -> {
             if (!(context.player() instanceof ServerPlayer serverPlayer)) return;
 
-            Map<Affinity, Integer> completions = serverPlayer.getData(ModAttachments.AFFINITIES.get());
+            AffinityState completions = serverPlayer.getData(ModAttachments.AFFINITIES.get());
             List<AffinityBookMenu.AffinityData> affinities = new ArrayList<>(completions.size());
-            for (Map.Entry<Affinity, Integer> entry : completions.entrySet()) {
-                affinities.add(new AffinityBookMenu.AffinityData(entry.getKey(), entry.getValue()));
+            for (Affinity affinity : completions.held()) {
+                affinities.add(new AffinityBookMenu.AffinityData(affinity, completions.get(affinity)));
             }
 
             serverPlayer.openMenu(new SimpleMenuProvider(
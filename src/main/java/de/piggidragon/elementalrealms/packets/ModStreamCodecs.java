@@ -1,6 +1,9 @@
 package de.piggidragon.elementalrealms.packets;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.DecoderException;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.phys.Vec3;
 
@@ -20,4 +23,17 @@ public final class ModStreamCodecs {
 
     private ModStreamCodecs() {
     }
+
+    /**
+     * Encodes an enum constant as its VarInt ordinal. Ids outside {@code values} fail with a
+     * {@link DecoderException} instead of an index error on the network thread.
+     */
+    public static <E extends Enum<E>> StreamCodec<ByteBuf, E> ordinal(E[] values) {
+        return ByteBufCodecs.VAR_INT.map(id -> {
+            if (id < 0 || id >= values.length) {
+                throw new DecoderException("Unknown " + values.getClass().getComponentType().getSimpleName() + " id " + id);
+            }
+            return values[id];
+        }, Enum::ordinal);
+    }
 }
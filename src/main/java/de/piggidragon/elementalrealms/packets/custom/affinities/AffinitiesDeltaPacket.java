@@ -0,0 +1,46 @@
+package de.piggidragon.elementalrealms.packets.custom.affinities;
+
+import de.piggidragon.elementalrealms.ElementalRealms;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Server -> client change to the player's own affinities since {@code version - 1}.
+ * {@code changedMask} has bit {@code ordinal} set for every added or updated affinity,
+ * with one completion byte per set bit in {@code completions} (ordinal order);
+ * {@code removedMask} lists affinities that were dropped.
+ */
+public record AffinitiesDeltaPacket(
+        int version,
+        int changedMask,
+        int removedMask,
+        byte[] completions
+) implements CustomPacketPayload {
+
+    public static final Type<AffinitiesDeltaPacket> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(ElementalRealms.MODID, "affinities_delta"));
+
+    public static final StreamCodec<FriendlyByteBuf, AffinitiesDeltaPacket> STREAM_CODEC = StreamCodec.of(
+            (buf, packet) -> {
+                buf.writeVarInt(packet.version());
+                buf.writeVarInt(packet.changedMask());
+                buf.writeVarInt(packet.removedMask());
+                buf.writeBytes(packet.completions());
+            },
+            buf -> {
+                int version = buf.readVarInt();
+                int changedMask = buf.readVarInt();
+                int removedMask = buf.readVarInt();
+                byte[] completions = new byte[Integer.bitCount(changedMask)];
+                buf.readBytes(completions);
+                return new AffinitiesDeltaPacket(version, changedMask, removedMask, completions);
+            }
+    );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
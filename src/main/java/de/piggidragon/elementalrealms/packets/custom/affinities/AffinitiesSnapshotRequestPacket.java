@@ -0,0 +1,25 @@
+package de.piggidragon.elementalrealms.packets.custom.affinities;
+
+import de.piggidragon.elementalrealms.ElementalRealms;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Client -> server request for a full affinity snapshot after the client saw a gap in
+ * {@link AffinitiesDeltaPacket} versions.
+ */
+public record AffinitiesSnapshotRequestPacket() implements CustomPacketPayload {
+
+    public static final Type<AffinitiesSnapshotRequestPacket> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(ElementalRealms.MODID, "affinities_snapshot_request"));
+
+    public static final StreamCodec<ByteBuf, AffinitiesSnapshotRequestPacket> STREAM_CODEC =
+            StreamCodec.unit(new AffinitiesSnapshotRequestPacket());
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
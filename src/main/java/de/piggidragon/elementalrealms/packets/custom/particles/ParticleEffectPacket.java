@@ -0,0 +1,45 @@
+package de.piggidragon.elementalrealms.packets.custom.particles;
+
+import de.piggidragon.elementalrealms.ElementalRealms;
+import de.piggidragon.elementalrealms.client.particles.effects.ParticleEffect;
+import de.piggidragon.elementalrealms.packets.ModStreamCodecs;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Server -> client trigger for a {@link ParticleEffect}. The client generates the
+ * particles deterministically from {@code seed}, thinned to {@code density} (the
+ * sender's LOD tier times effect intensity).
+ */
+public record ParticleEffectPacket(
+        ParticleEffect effect,
+        Vec3 origin,
+        int seed,
+        float density
+) implements CustomPacketPayload {
+
+    public static final Type<ParticleEffectPacket> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(ElementalRealms.MODID, "particle_effect"));
+
+    public static final StreamCodec<FriendlyByteBuf, ParticleEffectPacket> STREAM_CODEC =
+            StreamCodec.composite(
+                    ModStreamCodecs.ordinal(ParticleEffect.values()),
+                    ParticleEffectPacket::effect,
+                    ModStreamCodecs.VEC3_STREAM_CODEC,
+                    ParticleEffectPacket::origin,
+                    ByteBufCodecs.INT,
+                    ParticleEffectPacket::seed,
+                    ByteBufCodecs.FLOAT,
+                    ParticleEffectPacket::density,
+                    ParticleEffectPacket::new
+            );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,48 @@
+package de.piggidragon.elementalrealms.packets.custom.particles;
+
+import de.piggidragon.elementalrealms.ElementalRealms;
+import de.piggidragon.elementalrealms.packets.ModStreamCodecs;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Server -> client ring of ambient portal particles. Replaces one vanilla particle packet
+ * per particle: the client expands {@code count} particles evenly spaced around
+ * {@code center} at {@code radius}, rotated by {@code phase} radians, thinned to the
+ * receiving player's LOD {@code density}.
+ */
+public record PortalAmbientParticlesPacket(
+        Vec3 center,
+        float radius,
+        int count,
+        float phase,
+        float density
+) implements CustomPacketPayload {
+
+    public static final Type<PortalAmbientParticlesPacket> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(ElementalRealms.MODID, "portal_ambient_particles"));
+
+    public static final StreamCodec<FriendlyByteBuf, PortalAmbientParticlesPacket> STREAM_CODEC =
+            StreamCodec.composite(
+                    ModStreamCodecs.VEC3_STREAM_CODEC,
+                    PortalAmbientParticlesPacket::center,
+                    ByteBufCodecs.FLOAT,
+                    PortalAmbientParticlesPacket::radius,
+                    ByteBufCodecs.VAR_INT,
+                    PortalAmbientParticlesPacket::count,
+                    ByteBufCodecs.FLOAT,
+                    PortalAmbientParticlesPacket::phase,
+                    ByteBufCodecs.FLOAT,
+                    PortalAmbientParticlesPacket::density,
+                    PortalAmbientParticlesPacket::new
+            );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,44 @@
+package de.piggidragon.elementalrealms.packets.custom.particles;
+
+import de.piggidragon.elementalrealms.ElementalRealms;
+import de.piggidragon.elementalrealms.packets.ModStreamCodecs;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Server -> client start of a School Staff beam. The client animates the beam from
+ * {@code start} to {@code target} over {@code durationTicks} at the receiving player's
+ * LOD {@code density}; the server only times the portal spawn.
+ */
+public record StaffBeamPacket(
+        Vec3 start,
+        Vec3 target,
+        int durationTicks,
+        float density
+) implements CustomPacketPayload {
+
+    public static final Type<StaffBeamPacket> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(ElementalRealms.MODID, "staff_beam"));
+
+    public static final StreamCodec<FriendlyByteBuf, StaffBeamPacket> STREAM_CODEC =
+            StreamCodec.composite(
+                    ModStreamCodecs.VEC3_STREAM_CODEC,
+                    StaffBeamPacket::start,
+                    ModStreamCodecs.VEC3_STREAM_CODEC,
+                    StaffBeamPacket::target,
+                    ByteBufCodecs.VAR_INT,
+                    StaffBeamPacket::durationTicks,
+                    ByteBufCodecs.FLOAT,
+                    StaffBeamPacket::density,
+                    StaffBeamPacket::new
+            );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
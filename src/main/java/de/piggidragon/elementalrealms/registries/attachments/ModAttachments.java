@@ -5,7 +5,7 @@ import com.mojang.serialization.Keyable;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import com.mojang.serialization.codecs.SimpleMapCodec;
 import de.piggidragon.elementalrealms.ElementalRealms;
-import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
 import de.piggidragon.elementalrealms.registries.attachments.sync.AffinityAttachmentSyncHandler;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
@@ -16,7 +16,6 @@ import net.neoforged.neoforge.attachment.AttachmentType;
 import net.neoforged.neoforge.registries.DeferredRegister;
 import net.neoforged.neoforge.registries.NeoForgeRegistries;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -44,20 +43,17 @@ public final class ModAttachments {
             VEC3_CODEC,
             Keyable.forStrings(DIMENSION_KEYS)
     );
-    private static final Codec<Map<Affinity, Integer>> AFFINITY_MAP_CODEC = Codec.unboundedMap(
-            Affinity.CODEC,
-            Codec.INT
-    );
     private static final DeferredRegister<AttachmentType<?>> ATTACHMENT_TYPE = DeferredRegister.create(
             NeoForgeRegistries.ATTACHMENT_TYPES,
             ElementalRealms.MODID);
     /**
-     * Player's affinity map. Persists through death.
+     * Player's affinities. Persists through death. Saved in the legacy name-keyed map
+     * format, so worlds from before {@link AffinityState} load without migration.
      */
-    public static final Supplier<AttachmentType<Map<Affinity, Integer>>> AFFINITIES = ATTACHMENT_TYPE.register(
+    public static final Supplier<AttachmentType<AffinityState>> AFFINITIES = ATTACHMENT_TYPE.register(
             "affinities",
-            () -> AttachmentType.<Map<Affinity, Integer>>builder(() -> new HashMap<>())
-                    .serialize(AFFINITY_MAP_CODEC)
+            () -> AttachmentType.builder(() -> AffinityState.EMPTY)
+                    .serialize(AffinityState.CODEC)
                     .sync(new AffinityAttachmentSyncHandler())
                     .copyOnDeath()
                     .build()
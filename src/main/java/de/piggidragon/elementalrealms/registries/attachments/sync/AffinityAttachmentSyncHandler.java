@@ -1,43 +1,38 @@
 package de.piggidragon.elementalrealms.registries.attachments.sync;
 
-import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.neoforged.neoforge.attachment.AttachmentSyncHandler;
 import net.neoforged.neoforge.attachment.IAttachmentHolder;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Synchronizes the player affinity attachment between server and client.
+ *
+ * <p>Wire format is {@link AffinityState#STREAM_CODEC}: a VarInt presence mask with bit
+ * {@code ordinal} set for every held affinity, followed by one unsigned byte of completion
+ * per set bit in ordinal order. A typical player fits in three or four bytes.</p>
+ *
+ * <p>This path carries full snapshots only; incremental changes travel as deltas through
+ * {@link AffinitySync}.</p>
  */
-public final class AffinityAttachmentSyncHandler implements AttachmentSyncHandler<Map<Affinity, Integer>> {
+public final class AffinityAttachmentSyncHandler implements AttachmentSyncHandler<AffinityState> {
 
     @Override
     public boolean sendToPlayer(IAttachmentHolder holder, ServerPlayer to) {
-        return true;
+        return AffinitySync.shouldSendSnapshot(holder, to);
     }
 
     @Override
-    public void write(RegistryFriendlyByteBuf buf, Map<Affinity, Integer> map, boolean sync) {
-        buf.writeInt(map.size());
-        for (Map.Entry<Affinity, Integer> entry : map.entrySet()) {
-            buf.writeUtf(entry.getKey().name());
-            buf.writeInt(entry.getValue());
-        }
+    public void write(RegistryFriendlyByteBuf buf, AffinityState state, boolean sync) {
+        AffinityState.STREAM_CODEC.encode(buf, state);
     }
 
     @Override
-    public @Nullable Map<Affinity, Integer> read(IAttachmentHolder holder, RegistryFriendlyByteBuf buf, @Nullable Map<Affinity, Integer> existing) {
-        int size = buf.readInt();
-        Map<Affinity, Integer> map = new HashMap<>();
-        for (int i = 0; i < size; i++) {
-            String name = buf.readUtf();
-            int completion = buf.readInt();
-            map.put(Affinity.valueOf(name), completion);
-        }
-        return map;
+    public @Nullable AffinityState read(IAttachmentHolder holder, RegistryFriendlyByteBuf buf, @Nullable AffinityState existing) {
+        AffinityState state = AffinityState.STREAM_CODEC.decode(buf);
+        AffinitySync.onSnapshotReceived();
+        return state;
     }
 }
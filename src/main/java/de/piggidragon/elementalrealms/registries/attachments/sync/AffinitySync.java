@@ -0,0 +1,129 @@
+package de.piggidragon.elementalrealms.registries.attachments.sync;
+
+import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
+import de.piggidragon.elementalrealms.packets.custom.affinities.AffinitiesDeltaPacket;
+import de.piggidragon.elementalrealms.packets.custom.affinities.AffinitiesSnapshotRequestPacket;
+import de.piggidragon.elementalrealms.registries.attachments.ModAttachments;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.neoforge.attachment.IAttachmentHolder;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Delta sync for the player affinity attachment.
+ *
+ * <p>Full snapshots still go through {@link AffinityAttachmentSyncHandler} (login,
+ * respawn, start of tracking). Mutations made through {@link #commit} suppress that full
+ * resync and instead send an {@link AffinitiesDeltaPacket} carrying only the changed
+ * entries plus a per-player version. A full snapshot resets the version to 0 on both
+ * sides; a client that sees a version other than {@code last + 1} drops the delta and
+ * asks for a new snapshot.</p>
+ *
+ * <p>Server-side state is touched on the server thread only; client-side state on the
+ * client thread only.</p>
+ */
+public final class AffinitySync {
+
+    private static final Affinity[] AFFINITIES = Affinity.values();
+
+    // Keyed by entity identity: a respawned player is a new entity and starts over at its
+    // own initial snapshot.
+    private static final Map<ServerPlayer, Integer> SERVER_VERSIONS = new WeakHashMap<>();
+    // Player whose setData is currently being delta-synced, so the full resync is skipped.
+    private static ServerPlayer deltaInFlight;
+
+    private static int clientVersion;
+    private static boolean awaitingSnapshot;
+
+    private AffinitySync() {
+    }
+
+    /**
+     * Replaces {@code player}'s affinities with {@code next} and sends the owning client
+     * only the entries that changed.
+     */
+    public static void commit(ServerPlayer player, AffinityState next) {
+        AffinityState previous = player.getData(ModAttachments.AFFINITIES.get());
+
+        int changedMask = 0;
+        for (Affinity affinity : AFFINITIES) {
+            if (next.has(affinity) && (!previous.has(affinity) || previous.get(affinity) != next.get(affinity))) {
+                changedMask |= 1 << affinity.ordinal();
+            }
+        }
+        int removedMask = previous.heldMask() & ~next.heldMask();
+
+        deltaInFlight = player;
+        try {
+            player.setData(ModAttachments.AFFINITIES.get(), next);
+        } finally {
+            deltaInFlight = null;
+        }
+        if (changedMask == 0 && removedMask == 0) return;
+
+        byte[] completions = new byte[Integer.bitCount(changedMask)];
+        int index = 0;
+        for (Affinity affinity : AFFINITIES) {
+            if ((changedMask & (1 << affinity.ordinal())) != 0) {
+                completions[index++] = (byte) next.get(affinity);
+            }
+        }
+        int version = SERVER_VERSIONS.merge(player, 1, Integer::sum);
+        PacketDistributor.sendToPlayer(player, new AffinitiesDeltaPacket(version, changedMask, removedMask, completions));
+    }
+
+    /**
+     * Resends the full attachment through {@link AffinityAttachmentSyncHandler}. Answer
+     * to {@link AffinitiesSnapshotRequestPacket}.
+     */
+    public static void resendSnapshot(ServerPlayer player) {
+        // setData is what triggers a sync; the value itself is unchanged.
+        player.setData(ModAttachments.AFFINITIES.get(), player.getData(ModAttachments.AFFINITIES.get()));
+    }
+
+    /**
+     * Decides whether a full snapshot goes out. Only the owning player needs their
+     * affinities, and a snapshot is skipped while {@link #commit} sends a delta instead.
+     * An outgoing snapshot resets the player's delta version.
+     */
+    static boolean shouldSendSnapshot(IAttachmentHolder holder, ServerPlayer to) {
+        if (holder != to || deltaInFlight == to) return false;
+        SERVER_VERSIONS.put(to, 0);
+        return true;
+    }
+
+    static void onSnapshotReceived() {
+        clientVersion = 0;
+        awaitingSnapshot = false;
+    }
+
+    /**
+     * Client side: applies {@code packet} to the local player's attachment, or requests a
+     * snapshot if a version was skipped.
+     */
+    public static void applyDelta(Player player, AffinitiesDeltaPacket packet) {
+        if (awaitingSnapshot) return;
+        if (packet.version() != clientVersion + 1) {
+            awaitingSnapshot = true;
+            PacketDistributor.sendToServer(new AffinitiesSnapshotRequestPacket());
+            return;
+        }
+
+        AffinityState.Builder next = AffinityState.builder(player.getData(ModAttachments.AFFINITIES.get()));
+        int index = 0;
+        for (Affinity affinity : AFFINITIES) {
+            int bit = 1 << affinity.ordinal();
+            if ((packet.changedMask() & bit) != 0) {
+                next.put(affinity, packet.completions()[index++] & 0xFF);
+            } else if ((packet.removedMask() & bit) != 0) {
+                next.remove(affinity);
+            }
+        }
+        player.setData(ModAttachments.AFFINITIES.get(), next.build());
+        clientVersion = packet.version();
+    }
+}
@@ -9,18 +9,23 @@ import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
 import de.piggidragon.elementalrealms.ElementalRealms;
+import de.piggidragon.elementalrealms.client.particles.ParticleDispatcher;
 import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
 import de.piggidragon.elementalrealms.magic.affinities.AffinityType;
 import de.piggidragon.elementalrealms.magic.affinities.ModAffinities;
 import de.piggidragon.elementalrealms.magic.affinities.helper.AffinitiesRoll;
+import de.piggidragon.elementalrealms.magic.affinities.helper.AffinitiesRollSimulator;
 import de.piggidragon.elementalrealms.registries.configs.AffinityConfig;
 import de.piggidragon.elementalrealms.registries.configs.ConfigReloadListener;
 import de.piggidragon.elementalrealms.registries.configs.Json5ConfigLoader;
 import de.piggidragon.elementalrealms.registries.configs.Json5Reloadable;
+import de.piggidragon.elementalrealms.registries.configs.ModConfigs;
 import de.piggidragon.elementalrealms.registries.entities.ModEntities;
 import de.piggidragon.elementalrealms.registries.entities.custom.misc.PortalEntity;
 import de.piggidragon.elementalrealms.registries.level.DynamicDimensionHandler;
 import de.piggidragon.elementalrealms.registries.level.ModLevel;
+import de.piggidragon.elementalrealms.util.entities.portal.PortalScheduler;
 import de.piggidragon.elementalrealms.util.entities.portal.PortalUtils;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -28,6 +33,7 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
@@ -42,6 +48,7 @@ import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -52,12 +59,16 @@ import java.util.stream.Collectors;
  *   /elementalrealms list
  *   /elementalrealms portal locate &lt;radius&gt;
  *   /elementalrealms portal spawn &lt;dimension&gt;
+ *   /elementalrealms portal stats
+ *   /elementalrealms particles stats
  *   /elementalrealms affinities list
  *   /elementalrealms affinities set &lt;affinity&gt;
  *   /elementalrealms affinities clear
  *   /elementalrealms affinities reroll
  *   /elementalrealms affinities roll show
  *   /elementalrealms affinities roll set &lt;field&gt; &lt;value&gt;
+ *   /elementalrealms affinities roll simulate &lt;rolls&gt;
+ *   /elementalrealms affinities roll simulate page &lt;page&gt;
  * </pre>
  * Adding a new topic (Phase 1+: dragon, spell, boss) means adding a new
  * {@code .then(Commands.literal("topic")...)} block here and, if the branch
@@ -116,6 +127,12 @@ public final class ElementalRealmsCommand {
         return builder.buildFuture();
     };
 
+    private static final int MAX_SIMULATED_ROLLS = 10_000_000;
+    private static final int SIMULATION_PAGE_SIZE = 10;
+    private static final AtomicBoolean SIMULATION_RUNNING = new AtomicBoolean();
+    // Report of the last finished simulation; written and paged on the server thread.
+    private static List<String> lastSimulationReport = List.of();
+
     // Distance the debug-spawn command puts a portal in front of the player.
     // Held here (not PortalConfig) because the value is purely a debug-spawn
     // UX choice — not the same semantic as PortalConfig.portalSpawnDistance,
@@ -138,6 +155,7 @@ public final class ElementalRealmsCommand {
                         .then(Commands.literal("list")
                                 .executes(ElementalRealmsCommand::listConfigs))
                         .then(registerPortalBranch())
+                        .then(registerParticlesBranch())
                         .then(registerAffinitiesBranch())
         );
     }
@@ -171,7 +189,18 @@ public final class ElementalRealmsCommand {
                 .then(Commands.literal("spawn")
                         .then(Commands.argument("dimension", StringArgumentType.greedyString())
                                 .suggests(LEVEL_SUGGESTIONS)
-                                .executes(ElementalRealmsCommand::portalSpawnDimension)));
+                                .executes(ElementalRealmsCommand::portalSpawnDimension)))
+                .then(Commands.literal("stats")
+                        .executes(ElementalRealmsCommand::portalStats));
+    }
+
+    private static int portalStats(CommandContext<CommandSourceStack> ctx) {
+        int awake = PortalScheduler.count(PortalScheduler.State.AWAKE);
+        int dormant = PortalScheduler.count(PortalScheduler.State.DORMANT);
+        int pending = PortalScheduler.pendingDespawns();
+        ctx.getSource().sendSuccess(() -> Component.literal(
+                "Portals: " + awake + " awake, " + dormant + " dormant, " + pending + " pending despawn"), false);
+        return awake + dormant;
     }
 
     private static int portalLocate(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
@@ -251,6 +280,29 @@ private static int portalSpawnDimension(CommandContext<CommandSourceStack> ctx)
         player.level().addFreshEntity(portal);
     }
 
+    // ---- /elementalrealms particles ----------------------------------------------
+
+    private static com.mojang.brigadier.builder.LiteralArgumentBuilder<CommandSourceStack> registerParticlesBranch() {
+        return Commands.literal("particles")
+                .then(Commands.literal("stats")
+                        .executes(ElementalRealmsCommand::particleStats));
+    }
+
+    private static int particleStats(CommandContext<CommandSourceStack> ctx) {
+        CommandSourceStack src = ctx.getSource();
+        ParticleDispatcher.Stats last = ParticleDispatcher.lastTick();
+        ParticleDispatcher.Stats totals = ParticleDispatcher.totals();
+        int budget = ModConfigs.SERVER.particlePacketBudgetPerTick.get();
+        src.sendSuccess(() -> Component.literal(
+                "Particle packets last tick: " + last.sent() + " sent, " + last.culled() + " culled, "
+                        + last.dropped() + " over budget (budget " + (budget < 0 ? "unlimited" : budget)
+                        + ", peak " + ParticleDispatcher.peakSent() + ")"), false);
+        src.sendSuccess(() -> Component.literal(
+                "Since start: " + totals.sent() + " sent, " + totals.culled() + " culled, "
+                        + totals.dropped() + " over budget"), false);
+        return (int) last.sent();
+    }
+
     // ---- /elementalrealms affinities ---------------------------------------------
 
     private static com.mojang.brigadier.builder.LiteralArgumentBuilder<CommandSourceStack> registerAffinitiesBranch() {
@@ -276,12 +328,18 @@ private static int portalSpawnDimension(CommandContext<CommandSourceStack> ctx)
                                 .then(Commands.argument("field", StringArgumentType.word())
                                         .suggests(ROLL_FIELD_SUGGESTIONS)
                                         .then(Commands.argument("value", StringArgumentType.greedyString())
-                                                .executes(ElementalRealmsCommand::setRollConfig)))));
+                                                .executes(ElementalRealmsCommand::setRollConfig))))
+                        .then(Commands.literal("simulate")
+                                .then(Commands.literal("page")
+                                        .then(Commands.argument("page", IntegerArgumentType.integer(1))
+                                                .executes(ElementalRealmsCommand::simulateRollPage)))
+                                .then(Commands.argument("rolls", IntegerArgumentType.integer(1, MAX_SIMULATED_ROLLS))
+                                        .executes(ElementalRealmsCommand::simulateRoll))));
     }
 
     private static int affinitiesList(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
         ServerPlayer player = ctx.getSource().getPlayerOrException();
-        Map<Affinity, Integer> affinities = ModAffinities.getAffinities(player);
+        Map<Affinity, Integer> affinities = ModAffinities.getAffinities(player).asMap();
 
         if (affinities.isEmpty()) {
             ctx.getSource().sendSuccess(() -> Component.literal(
@@ -397,10 +455,10 @@ private static int portalSpawnDimension(CommandContext<CommandSourceStack> ctx)
         } catch (IllegalStateException ignored) {
             // No affinities yet - roll directly.
         }
-        for (Map.Entry<Affinity, Integer> entry : AffinitiesRoll.rollAffinities(player).entrySet()) {
-            Affinity affinity = entry.getKey();
+        AffinityState rolled = AffinitiesRoll.rollAffinities(player);
+        for (Affinity affinity : rolled.held()) {
             if (affinity == Affinity.VOID) continue;
-            int completion = entry.getValue();
+            int completion = rolled.get(affinity);
             try {
                 if (completion >= AffinityConfig.maxCompletionPercent()) {
                     ModAffinities.addAffinity(player, affinity);
@@ -519,4 +577,72 @@ private static int portalSpawnDimension(CommandContext<CommandSourceStack> ctx)
                 "Set " + field + " = " + formatRollFieldValue(field) + " (saved to " + file + ", reloaded)"), true);
         return 1;
     }
-}
\ No newline at end of file
+
+    // ---- /elementalrealms affinities roll simulate ----------------------------------
+
+    /**
+     * Rolls {@code rolls} fresh-player rolls against the live {@code roll} config on the
+     * common fork-join pool, then prints the first page of the report back on the server
+     * thread. One simulation runs at a time.
+     */
+    private static int simulateRoll(CommandContext<CommandSourceStack> ctx) {
+        CommandSourceStack src = ctx.getSource();
+        int rolls = IntegerArgumentType.getInteger(ctx, "rolls");
+        if (!SIMULATION_RUNNING.compareAndSet(false, true)) {
+            src.sendFailure(Component.literal("A roll simulation is already running."));
+            return 0;
+        }
+
+        long seed = src.getLevel().getRandom().nextLong();
+        AffinitiesRoll.Params params = AffinitiesRoll.Params.fromConfig();
+        MinecraftServer server = src.getServer();
+        long start = System.nanoTime();
+        src.sendSuccess(() -> Component.literal("Simulating " + rolls + " rolls (seed " + seed + ")..."), false);
+
+        AffinitiesRollSimulator.simulateAsync(rolls, seed, AffinityState.EMPTY, params)
+                .whenComplete((histogram, error) -> {
+                    // Cleared on the worker: if the server stops first, the task queued below
+                    // never runs and the command would stay locked for the rest of the JVM.
+                    SIMULATION_RUNNING.set(false);
+                    server.execute(() -> {
+                        if (error != null) {
+                            ElementalRealms.LOGGER.error("Affinity roll simulation failed", error);
+                            src.sendFailure(Component.literal("Roll simulation failed: " + error.getMessage()));
+                            return;
+                        }
+                        long millis = (System.nanoTime() - start) / 1_000_000;
+                        lastSimulationReport = histogram.report(seed, millis);
+                        sendSimulationPage(src, 1);
+                    });
+                });
+        return 1;
+    }
+
+    private static int simulateRollPage(CommandContext<CommandSourceStack> ctx) {
+        if (lastSimulationReport.isEmpty()) {
+            ctx.getSource().sendFailure(Component.literal(
+                    "No simulation results yet \u2014 run '/elementalrealms affinities roll simulate <rolls>' first."));
+            return 0;
+        }
+        return sendSimulationPage(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "page"));
+    }
+
+    private static int sendSimulationPage(CommandSourceStack src, int page) {
+        List<String> report = lastSimulationReport;
+        int pages = (report.size() + SIMULATION_PAGE_SIZE - 1) / SIMULATION_PAGE_SIZE;
+        if (page > pages) {
+            src.sendFailure(Component.literal("Page " + page + " out of range (1.." + pages + ")."));
+            return 0;
+        }
+        src.sendSuccess(() -> Component.literal("Roll simulation, page " + page + "/" + pages + ":"), false);
+        int end = Math.min(report.size(), page * SIMULATION_PAGE_SIZE);
+        for (String line : report.subList((page - 1) * SIMULATION_PAGE_SIZE, end)) {
+            src.sendSuccess(() -> Component.literal(line), false);
+        }
+        if (page < pages) {
+            src.sendSuccess(() -> Component.literal(
+                    "Next: /elementalrealms affinities roll simulate page " + (page + 1)), false);
+        }
+        return 1;
+    }
+}
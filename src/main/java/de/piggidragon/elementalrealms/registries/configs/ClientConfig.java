@@ -10,6 +10,8 @@ public final class ClientConfig {
     public final ModConfigSpec.BooleanValue showManaBar;
     public final ModConfigSpec.DoubleValue particleMultiplier;
     public final ModConfigSpec.DoubleValue uiScale;
+    public final ModConfigSpec.DoubleValue renderTaskMaxDistance;
+    public final ModConfigSpec.IntValue tickTaskBudgetMicros;
 
     public ClientConfig(ModConfigSpec.Builder builder) {
         builder.comment("Elemental Realms — client-only config").push("client");
@@ -26,6 +28,14 @@ public final class ClientConfig {
                 .comment("UI element scale multiplier. 1.0 = default.")
                 .defineInRange("uiScale", 1.0, 0.5, 2.0);
 
+        renderTaskMaxDistance = builder
+                .comment("Effects whose bounds are farther than this many blocks from the camera are not drawn. 0 = no distance limit.")
+                .defineInRange("renderTaskMaxDistance", 128.0, 0.0, 1024.0);
+
+        tickTaskBudgetMicros = builder
+                .comment("Per-tick time budget for client effect updates, in microseconds. Cosmetic effects past the budget are deferred to the next tick. 0 = unlimited.")
+                .defineInRange("tickTaskBudgetMicros", 2000, 0, 50_000);
+
         builder.pop();
     }
 }
\ No newline at end of file
@@ -26,10 +26,16 @@ public final class DimensionsConfig implements Json5Reloadable {
     private static int boundedChunkRadius = 10;
     private static int maxLayers = 100;
     private static int maxGenerationAttempts = 10000;
+    private static int realmPoolSize = 0;
+    private static int realmPoolRefillIntervalTicks = 100;
+    private static int spawnPregenRadius = 2;
     private static boolean bossDeathRemovesVanillaPortal = true;
     private static boolean pocketsPersistent = true;
     private static int dimensionalEffectStrengthPercent = 50;
     private static int affinityBuffThresholdPercent = 100;
+    // Bumped on every reload so consumers that cache derived values (BoundedChunkGenerator
+    // bounds) can tell their snapshot is stale with a single int compare.
+    private static volatile int revision = 0;
 
     public DimensionsConfig() {
         REGISTRY.add(this);
@@ -71,6 +77,9 @@ public final class DimensionsConfig implements Json5Reloadable {
             JsonObject generation = obj.getAsJsonObject("generation");
             maxLayers = Json5SectionReader.getInt(generation, "maxLayers", maxLayers);
             maxGenerationAttempts = Json5SectionReader.getInt(generation, "maxGenerationAttempts", maxGenerationAttempts);
+            realmPoolSize = Json5SectionReader.getInt(generation, "realmPoolSize", realmPoolSize);
+            realmPoolRefillIntervalTicks = Json5SectionReader.getInt(generation, "realmPoolRefillIntervalTicks", realmPoolRefillIntervalTicks);
+            spawnPregenRadius = Json5SectionReader.getInt(generation, "spawnPregenRadius", spawnPregenRadius);
         }
         if (obj.has("behaviour")) {
             JsonObject behaviour = obj.getAsJsonObject("behaviour");
@@ -83,6 +92,7 @@ public final class DimensionsConfig implements Json5Reloadable {
             affinityBuffThresholdPercent = Json5SectionReader.getInt(effects, "affinityBuffThresholdPercent", affinityBuffThresholdPercent);
         }
 
+        revision++;
         ElementalRealms.LOGGER.debug("dimensions.json loaded: boundedChunkRadius={}, maxLayers={}, maxGenerationAttempts={}",
                 boundedChunkRadius, maxLayers, maxGenerationAttempts);
     }
@@ -116,7 +126,16 @@ public final class DimensionsConfig implements Json5Reloadable {
                     "maxLayers": 100,
                     // Cap on generation-center placement attempts; reached -> bail with the error
                     // message above. Effectively a safety net around the ring-walk loop.
-                    "maxGenerationAttempts": 10000
+                    "maxGenerationAttempts": 10000,
+                    // Realms kept pre-created per template so opening a portal doesn't build
+                    // the level on the spot. 0 disables the pool. Each pooled realm stays
+                    // loaded and is still created on a server tick, just not the portal's.
+                    "realmPoolSize": 0,
+                    // Ticks between pool refills. At most one realm is created per refill.
+                    "realmPoolRefillIntervalTicks": 100,
+                    // Chunk radius around a new realm's generation center that is generated in
+                    // the background before the first player is let through.
+                    "spawnPregenRadius": 2
                   },
 
                   "behaviour": {
@@ -144,8 +163,12 @@ public final class DimensionsConfig implements Json5Reloadable {
     public static int boundedChunkRadius() { return boundedChunkRadius; }
     public static int maxLayers() { return maxLayers; }
     public static int maxGenerationAttempts() { return maxGenerationAttempts; }
+    public static int realmPoolSize() { return realmPoolSize; }
+    public static int realmPoolRefillIntervalTicks() { return realmPoolRefillIntervalTicks; }
+    public static int spawnPregenRadius() { return spawnPregenRadius; }
     public static boolean bossDeathRemovesVanillaPortal() { return bossDeathRemovesVanillaPortal; }
     public static boolean pocketsPersistent() { return pocketsPersistent; }
     public static int dimensionalEffectStrengthPercent() { return dimensionalEffectStrengthPercent; }
     public static int affinityBuffThresholdPercent() { return affinityBuffThresholdPercent; }
+    public static int revision() { return revision; }
 }
\ No newline at end of file
@@ -8,8 +8,8 @@ import java.nio.file.Path;
 
 /**
  * Loads {@code config/elementalrealms/portal.json}. Controls portal spawn offsets,
- * search radius, particle cadence, and the explosion used to clear the air column
- * when a natural portal primes.
+ * search radius, particle cadence, dormancy scheduling, and the explosion used to
+ * clear the air column when a natural portal primes.
  */
 public final class PortalConfig implements Json5Reloadable {
 
@@ -27,6 +27,8 @@ public final class PortalConfig implements Json5Reloadable {
     private static float explosionPower = 25.0f;
     private static double explosionYOffset = 1.0;
     private static double returnOffset = 2.0;
+    private static int dormantCheckIntervalTicks = 10;
+    private static double wakeRadius = 64.0;
 
     public PortalConfig() {
         REGISTRY.add(this);
@@ -78,6 +80,11 @@ public final class PortalConfig implements Json5Reloadable {
             JsonObject teleport = obj.getAsJsonObject("teleport");
             returnOffset = Json5SectionReader.getDouble(teleport, "returnOffset", returnOffset);
         }
+        if (obj.has("scheduler")) {
+            JsonObject scheduler = obj.getAsJsonObject("scheduler");
+            dormantCheckIntervalTicks = Math.max(1, Json5SectionReader.getInt(scheduler, "dormantCheckIntervalTicks", dormantCheckIntervalTicks));
+            wakeRadius = Json5SectionReader.getDouble(scheduler, "wakeRadius", wakeRadius);
+        }
 
         ElementalRealms.LOGGER.debug("portal.json loaded: spawnHeightOffset={}, searchRadius={}, explosionPower={}",
                 spawnHeightOffset, searchRadius, explosionPower);
@@ -120,6 +127,13 @@ public final class PortalConfig implements Json5Reloadable {
                     // teleporting back from a custom dimension, so the player doesn't land inside
                     // the portal hitbox.
                     "returnOffset": 2.0
+                  },
+
+                  "scheduler": {
+                    // Portals with no player within wakeRadius (blocks) go dormant: no particles,
+                    // no teleport checks, and a proximity re-check only every N ticks.
+                    "dormantCheckIntervalTicks": 10,
+                    "wakeRadius": 64.0
                   }
                 }
                 """;
@@ -136,4 +150,6 @@ public final class PortalConfig implements Json5Reloadable {
     public static float explosionPower() { return explosionPower; }
     public static double explosionYOffset() { return explosionYOffset; }
     public static double returnOffset() { return returnOffset; }
+    public static int dormantCheckIntervalTicks() { return dormantCheckIntervalTicks; }
+    public static double wakeRadius() { return wakeRadius; }
 }
\ No newline at end of file
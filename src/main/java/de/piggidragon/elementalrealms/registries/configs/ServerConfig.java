@@ -11,6 +11,10 @@ public final class ServerConfig {
     public final ModConfigSpec.BooleanValue allowAffinityRerollCommand;
     public final ModConfigSpec.IntValue maxRerollsPerPlayer;
     public final ModConfigSpec.IntValue rollCooldownSeconds;
+    public final ModConfigSpec.DoubleValue particleFullDetailDistance;
+    public final ModConfigSpec.DoubleValue particleReducedDetailDistance;
+    public final ModConfigSpec.DoubleValue particleMaxDistance;
+    public final ModConfigSpec.IntValue particlePacketBudgetPerTick;
 
     public ServerConfig(ModConfigSpec.Builder builder) {
         builder.comment("Elemental Realms — server-only config").push("server");
@@ -27,6 +31,22 @@ public final class ServerConfig {
                 .comment("Cooldown between rerolls for a single player, in seconds.")
                 .defineInRange("rollCooldownSeconds", 0, 0, 86400);
 
+        particleFullDetailDistance = builder
+                .comment("Players within this many blocks receive mod particle effects at full density.")
+                .defineInRange("particleFullDetailDistance", 16.0, 0.0, 256.0);
+
+        particleReducedDetailDistance = builder
+                .comment("Players within this many blocks (beyond the full-detail distance) receive half density.")
+                .defineInRange("particleReducedDetailDistance", 24.0, 0.0, 256.0);
+
+        particleMaxDistance = builder
+                .comment("Players within this many blocks (beyond the reduced distance) receive quarter density; farther players receive nothing.")
+                .defineInRange("particleMaxDistance", 32.0, 0.0, 256.0);
+
+        particlePacketBudgetPerTick = builder
+                .comment("Max mod particle packets sent per server tick across all players. -1 = unlimited.")
+                .defineInRange("particlePacketBudgetPerTick", 512, -1, 100000);
+
         builder.pop();
     }
 }
\ No newline at end of file
@@ -6,8 +6,14 @@ import de.piggidragon.elementalrealms.registries.configs.PortalConfig;
 import de.piggidragon.elementalrealms.registries.entities.ModEntities;
 import de.piggidragon.elementalrealms.registries.level.DynamicDimensionHandler;
 import de.piggidragon.elementalrealms.registries.level.ModLevel;
+import de.piggidragon.elementalrealms.registries.level.RealmSpawnPregen;
+import de.piggidragon.elementalrealms.saveddata.RealmSpawnData;
+import de.piggidragon.elementalrealms.util.entities.portal.PortalRegistry;
+import de.piggidragon.elementalrealms.util.entities.portal.PortalScheduler;
 import de.piggidragon.elementalrealms.util.entities.portal.PortalUtils;
-import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
@@ -25,6 +31,7 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.RelativeMovement;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.levelgen.Heightmap;
@@ -45,6 +52,10 @@ public class PortalEntity extends Entity {
     private static final String TAG_INITIALIZED = "Initialized";
     private static final String TAG_TARGET_LEVEL = "TargetLevel";
     private static final String TAG_OWNER_UUID = "OwnerUUID";
+    // Centre-to-centre distance (beyond the portal's own width) within which a player is
+    // worth an exact bounding-box test. Covers the player hitbox height with room to spare.
+    // Package-private so PortalProximityBenchmark measures the same gate.
+    static final double PLAYER_PROXIMITY_MARGIN = 3.0;
 
     private final ResourceKey<Level> portalLevel;
     private ResourceKey<Level> targetLevel;
@@ -53,6 +64,10 @@ public class PortalEntity extends Entity {
     private boolean discard = false;
     private int despawnTimeout = 0;
     private boolean primed = false;
+    // Section this portal was filed under in PortalRegistry; MIN_VALUE = not registered.
+    private long registeredSection = Long.MIN_VALUE;
+    // PortalScheduler tick this portal despawns on; -1 = no despawn scheduled.
+    private long despawnDueTick = -1;
 
     public PortalEntity(EntityType<? extends PortalEntity> type, Level level) {
         super(type, level);
@@ -183,7 +198,7 @@ public class PortalEntity extends Entity {
 
     @Override
     protected void addAdditionalSaveData(CompoundTag compound) {
-        compound.putInt(TAG_DESPAWN_TIMER, this.despawnTimeout);
+        compound.putInt(TAG_DESPAWN_TIMER, getRemainingDespawnTicks());
         compound.putBoolean(TAG_DISCARD, this.discard);
         compound.putBoolean(TAG_IS_NATURAL, this.primed);
         compound.putBoolean(TAG_INITIALIZED, this.initialized);
@@ -217,29 +232,100 @@ public class PortalEntity extends Entity {
         // synced particles via Lodestone rather than via this entity.
         if (this.level().isClientSide()) return;
 
-        if (despawnTimeout > 0) {
-            despawnTimeout--;
-            if (despawnTimeout <= 0) {
-                PortalParticles.createPortalDisappearEffect((ServerLevel) this.level(), this.position());
-                this.discard();
-                return;
-            }
-        }
+        // Despawn countdowns live in PortalScheduler's timing wheel; dormant portals (no
+        // player within the wake radius) skip particles and teleport checks entirely.
+        if (!PortalScheduler.isAwake(this)) return;
 
         if (tickCount % PortalConfig.particleSpawnIntervalTicks() == 0) {
             spawnAmbientParticles();
         }
 
-        // Teleport any intersecting non-spectator player. The portal-cooldown check lives
-        // inside teleportPlayer so the cooldown is enforced per-player, not per-portal.
-        List<ServerPlayer> players = this.level().getEntitiesOfClass(ServerPlayer.class, this.getBoundingBox());
-        for (ServerPlayer player : players) {
-            if (!player.isSpectator()) {
-                teleportPlayer(player.level(), player);
+        teleportIntersectingPlayers();
+    }
+
+    /**
+     * Teleports any intersecting non-spectator player. Walks the level's player list (a
+     * handful of entries) instead of querying entity sections, so idle portals far from
+     * every player cost one squared-distance compare per player and nothing else. The
+     * portal-cooldown check lives inside teleportPlayer so the cooldown is enforced
+     * per-player, not per-portal.
+     */
+    private void teleportIntersectingPlayers() {
+        List<? extends Player> players = this.level().players();
+        if (players.isEmpty()) return;
+
+        double reach = PLAYER_PROXIMITY_MARGIN + this.getBbWidth();
+        double reachSqr = reach * reach;
+        List<ServerPlayer> intersecting = null;
+        for (Player player : players) {
+            if (this.distanceToSqr(player) > reachSqr) continue;
+            if (player instanceof ServerPlayer serverPlayer
+                    && serverPlayer.isAlive()
+                    && !serverPlayer.isSpectator()
+                    && serverPlayer.getBoundingBox().intersects(this.getBoundingBox())) {
+                if (intersecting == null) intersecting = new ArrayList<>(1);
+                intersecting.add(serverPlayer);
+            }
+        }
+        // Teleport outside the scan: teleportTo moves the player between levels, which
+        // mutates the player list we were iterating.
+        if (intersecting == null) return;
+        for (ServerPlayer player : intersecting) {
+            teleportPlayer(player.level(), player);
+        }
+    }
+
+    @Override
+    public void onAddedToLevel() {
+        super.onAddedToLevel();
+        if (!this.level().isClientSide()) {
+            this.registeredSection = PortalRegistry.register(this);
+            PortalScheduler.track(this);
+            if (this.despawnTimeout > 0 && this.despawnDueTick < 0) {
+                this.despawnDueTick = PortalScheduler.scheduleDespawn(this, this.despawnTimeout);
+            }
+        }
+    }
+
+    /**
+     * Unregisters from {@link PortalRegistry} and {@link PortalScheduler}. Runs for every
+     * way a portal leaves the level (discard, kill, chunk unload), unlike {@link #remove}
+     * which unloads skip. An unloaded portal's remaining lifetime was already written by
+     * {@link #addAdditionalSaveData}, so the countdown pauses while its chunk is unloaded.
+     */
+    @Override
+    public void onRemovedFromLevel() {
+        super.onRemovedFromLevel();
+        if (this.registeredSection != Long.MIN_VALUE) {
+            PortalRegistry.unregister(this, this.registeredSection);
+            this.registeredSection = Long.MIN_VALUE;
+        }
+        if (!this.level().isClientSide()) {
+            PortalScheduler.untrack(this);
+            if (this.despawnDueTick >= 0) {
+                this.despawnTimeout = getRemainingDespawnTicks();
+                PortalScheduler.cancelDespawn(this, this.despawnDueTick);
+                this.despawnDueTick = -1;
             }
         }
     }
 
+    /**
+     * Called by {@link PortalScheduler} when this portal's despawn timeout runs out.
+     */
+    public void onDespawnTimeout() {
+        this.despawnDueTick = -1;
+        this.despawnTimeout = 0;
+        if (this.isRemoved() || !(this.level() instanceof ServerLevel serverLevel)) return;
+        PortalParticles.createPortalDisappearEffect(serverLevel, this.position());
+        this.discard();
+    }
+
+    private int getRemainingDespawnTicks() {
+        if (this.despawnDueTick < 0) return this.despawnTimeout;
+        return (int) Math.max(1, this.despawnDueTick - PortalScheduler.now());
+    }
+
     /**
      * On non-discard removal, tear down the dynamically-created dimension backing this
      * portal. Skipped for OVERWORLD and the School dimension (those are static - never
@@ -261,17 +347,9 @@ public class PortalEntity extends Entity {
     }
 
     private void spawnAmbientParticles() {
-        ServerLevel serverLevel = (ServerLevel) level();
-        int count = PortalConfig.particleCount();
-        double radius = PortalConfig.particleRadius();
-        double yOffset = PortalConfig.particleYOffset();
-        for (int i = 0; i < count; i++) {
-            double angle = tickCount * 0.1 + i * Math.PI * 2 / count;
-            double x = getX() + Math.cos(angle) * radius;
-            double y = getY() + yOffset;
-            double z = getZ() + Math.sin(angle) * radius;
-            serverLevel.sendParticles(ParticleTypes.PORTAL, x, y, z, 1, 0.0, 0.0, 0.0, 0.02);
-        }
+        Vec3 center = new Vec3(getX(), getY() + PortalConfig.particleYOffset(), getZ());
+        PortalParticles.sendAmbientRing((ServerLevel) level(), center,
+                PortalConfig.particleRadius(), PortalConfig.particleCount(), tickCount * 0.1);
     }
 
     private void createExplosivePortalSpace() {
@@ -323,6 +401,13 @@ public class PortalEntity extends Entity {
         ServerLevel destinationLevel = getLevelFromKey(targetLevel);
         if (destinationLevel == null) return;
 
+        // A fresh realm's spawn area is still generating on the chunk workers. Keep the
+        // player in the portal until it's done instead of blocking the tick on getChunk.
+        if (!RealmSpawnPregen.isReady(targetLevel)) {
+            player.displayClientMessage(Component.literal("The realm is still forming..."), true);
+            return;
+        }
+
         Vec3 destinationPos = resolveDestinationPosition(destinationLevel);
 
         player.setData(ModAttachments.RETURN_LEVEL_POS.get(), returnLevelPos);
@@ -353,6 +438,17 @@ public class PortalEntity extends Entity {
         if (targetLevel == ModLevel.SCHOOL_DIMENSION) {
             return new Vec3(-1.5, 61, 0.5);
         }
+        // Resolved spawns are cached per realm in RealmSpawnData, so only the first visit (or
+        // the first after the spawn column changed) touches the chunk system at all. Block
+        // events don't cover every change (fluids, pistons, commands); if the spawn chunk
+        // happens to be loaded anyway, the cached spot is re-checked and recomputed when it's
+        // no longer safe. An unloaded chunk can't have changed since it was last saved.
+        RealmSpawnData spawnData = RealmSpawnData.get(destinationLevel.getServer());
+        Vec3 cachedSpawn = spawnData.getSpawn(targetLevel);
+        if (cachedSpawn != null && isSafeOrUnloaded(destinationLevel, cachedSpawn)) {
+            return cachedSpawn;
+        }
+
         // Use the registered generation center if we have one. Otherwise fall back to the
         // chunk at (0, 0) — works for datapack-defined dimensions (test / test2 / ...) that
         // don't go through DynamicDimensionHandler. Without the fallback, teleportFromVanilla
@@ -371,12 +467,36 @@ public class PortalEntity extends Entity {
                     spawnChunk.getMiddleBlockX(),
                     spawnChunk.getMiddleBlockZ()
             );
-            return new Vec3(0.5 + spawnChunk.getMiddleBlockX(), terrainHeight, 0.5 + spawnChunk.getMiddleBlockZ());
+            Vec3 spawn = new Vec3(0.5 + spawnChunk.getMiddleBlockX(), terrainHeight, 0.5 + spawnChunk.getMiddleBlockZ());
+            spawnData.putSpawn(targetLevel, spawn);
+            return spawn;
         } finally {
             destinationLevel.setChunkForced(spawnChunk.x, spawnChunk.z, false);
         }
     }
 
+    /**
+     * True if {@code spawn}'s chunk isn't loaded (checking would mean loading it), or if the
+     * spot still has room for a player standing on solid ground: feet and head blocks
+     * without collision or fluid, and a sturdy top face below.
+     */
+    private static boolean isSafeOrUnloaded(ServerLevel level, Vec3 spawn) {
+        BlockPos feet = BlockPos.containing(spawn);
+        if (!level.hasChunk(SectionPos.blockToSectionCoord(feet.getX()), SectionPos.blockToSectionCoord(feet.getZ()))) {
+            return true;
+        }
+        BlockPos head = feet.above();
+        BlockPos below = feet.below();
+        return isPassable(level, feet)
+                && isPassable(level, head)
+                && level.getBlockState(below).isFaceSturdy(level, below, Direction.UP);
+    }
+
+    private static boolean isPassable(ServerLevel level, BlockPos pos) {
+        BlockState state = level.getBlockState(pos);
+        return state.getCollisionShape(level, pos).isEmpty() && state.getFluidState().isEmpty();
+    }
+
     private void teleportFromCustom(ServerPlayer player, Set<RelativeMovement> relatives, float yaw, float pitch) {
         Map<ResourceKey<Level>, Vec3> returnLevelPos = player.getData(ModAttachments.RETURN_LEVEL_POS.get());
         if (returnLevelPos == null || returnLevelPos.isEmpty()) {
@@ -1,12 +1,14 @@
 package de.piggidragon.elementalrealms.registries.items.magic.equipment.hand.custom;
 
+import de.piggidragon.elementalrealms.client.particles.ParticleDispatcher;
 import de.piggidragon.elementalrealms.client.particles.vanilla.DimensionStaffParticles;
 import de.piggidragon.elementalrealms.client.particles.vanilla.PortalParticles;
+import de.piggidragon.elementalrealms.packets.custom.particles.StaffBeamPacket;
 import de.piggidragon.elementalrealms.registries.configs.SchoolConfig;
 import de.piggidragon.elementalrealms.registries.entities.ModEntities;
 import de.piggidragon.elementalrealms.registries.entities.custom.misc.PortalEntity;
 import de.piggidragon.elementalrealms.registries.level.ModLevel;
-import net.minecraft.core.particles.ParticleTypes;
+import de.piggidragon.elementalrealms.util.entities.portal.PortalRegistry;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
@@ -19,6 +21,7 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.List;
@@ -28,27 +31,27 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Staff that opens a temporary portal to the School dimension via a beam animation.
+ * The beam itself is simulated on clients; the server only times the portal spawn.
  */
 public class SchoolStaff extends Item {
 
-    private static final int BEAM_TICK_LIMIT = SchoolConfig.beamTotalTicks();
-
     /**
-     * Active beam animations tracked by player UUID - thread-safe for server tick access.
+     * Portal spawns waiting for their beam to arrive, tracked by player UUID - thread-safe
+     * for server tick access.
      */
-    private static final Map<UUID, BeamAnimation> ACTIVE_ANIMATIONS = new ConcurrentHashMap<>();
+    private static final Map<UUID, PendingPortal> PENDING_PORTALS = new ConcurrentHashMap<>();
 
     public SchoolStaff(Properties properties) {
         super(properties);
     }
 
     /**
-     * Advances all active beam animations. Must be called from the server tick event
-     * once per tick; each animation either ticks itself or returns false to signal
-     * completion (and is then removed from the map).
+     * Advances all pending portal spawns. Must be called from the server tick event
+     * once per tick; each entry either counts down or returns false once its portal has
+     * spawned (and is then removed from the map).
      */
-    public static void tickAnimations() {
-        ACTIVE_ANIMATIONS.entrySet().removeIf(entry -> !entry.getValue().tick());
+    public static void tickPendingPortals() {
+        PENDING_PORTALS.entrySet().removeIf(entry -> !entry.getValue().tick());
     }
 
     /**
@@ -75,13 +78,9 @@ public class SchoolStaff extends Item {
      * spams right-click; the despawn particles + ender-eye sound give visual feedback.
      */
     private static void removeOldPortals(Level level, Player player) {
-        List<PortalEntity> portals = level.getEntitiesOfClass(
-                PortalEntity.class,
-                player.getBoundingBox().inflate(SchoolConfig.portalSearchRadius()),
-                portal -> portal.getOwnerUUID() != null && portal.getOwnerUUID().equals(player.getUUID())
-        );
-
-        for (PortalEntity portal : portals) {
+        AABB searchArea = player.getBoundingBox().inflate(SchoolConfig.portalSearchRadius());
+        for (PortalEntity portal : PortalRegistry.findOwnedBy(level.dimension(), player.getUUID())) {
+            if (!searchArea.contains(portal.position())) continue;
             PortalParticles.createPortalDisappearEffect((ServerLevel) level, portal.position());
             level.playSound(null, portal, SoundEvents.ENDER_EYE_DEATH, SoundSource.PLAYERS, 1, 0.7f);
             portal.discard();
@@ -116,7 +115,10 @@ public class SchoolStaff extends Item {
         player.playNotifySound(SoundEvents.BEACON_ACTIVATE, SoundSource.PLAYERS, 0.7F, 1.5F);
         DimensionStaffParticles.addDurabilityEffects(serverLevel, player, player.getMainHandItem());
 
-        ACTIVE_ANIMATIONS.put(player.getUUID(), new BeamAnimation(serverLevel, player, staffTip, targetPos));
+        int beamTicks = SchoolConfig.beamTotalTicks();
+        ParticleDispatcher.send(serverLevel, staffTip,
+                density -> new StaffBeamPacket(staffTip, targetPos, beamTicks, density));
+        PENDING_PORTALS.put(player.getUUID(), new PendingPortal(serverLevel, player, targetPos, beamTicks));
 
         player.getMainHandItem().hurtAndBreak(1, serverLevel, player,
                 item -> player.onEquippedItemBroken(item, EquipmentSlot.MAINHAND));
@@ -136,62 +138,33 @@ public class SchoolStaff extends Item {
     }
 
     /**
-     * Spiraling beam particle animation from staff tip to portal spawn point.
+     * Server half of a staff use: waits out the client-side beam, then plays the arrival
+     * effect and spawns the portal.
      */
-    private static final class BeamAnimation {
+    private static final class PendingPortal {
         private final ServerLevel level;
         private final Player player;
-        private final Vec3 startPos;
         private final Vec3 targetPos;
-        private final Vec3 direction;
-        private final double stepSize;
-        private int currentTick = 0;
+        private int remainingTicks;
 
-        BeamAnimation(ServerLevel level, Player player, Vec3 startPos, Vec3 targetPos) {
+        PendingPortal(ServerLevel level, Player player, Vec3 targetPos, int beamTicks) {
             this.level = level;
             this.player = player;
-            this.startPos = startPos;
             this.targetPos = targetPos;
-            this.direction = targetPos.subtract(startPos).normalize();
-            this.stepSize = startPos.distanceTo(targetPos) / SchoolConfig.beamTotalTicks();
+            this.remainingTicks = beamTicks;
         }
 
         boolean tick() {
-            if (currentTick > BEAM_TICK_LIMIT) {
-                return false;
-            }
-
-            // Walk along the staff-tip -> target-pos line at a constant step size, then emit
-            // three spiral arms (cos/sin, 120° apart) at each step. This produces the
-            // twisting beam visual without locking the particle count to distance.
-            Vec3 currentPos = startPos.add(direction.scale(currentTick * stepSize));
-
-            for (int i = 0; i < 3; i++) {
-                double angle = currentTick * 0.3 + i * (Math.PI * 2 / 3);
-                double offsetX = Math.cos(angle) * 0.3;
-                double offsetZ = Math.sin(angle) * 0.3;
-
-                level.sendParticles(ParticleTypes.PORTAL,
-                        currentPos.x + offsetX, currentPos.y, currentPos.z + offsetZ,
-                        1, 0.0, 0.0, 0.0, 0.02);
-            }
-
-            if (currentTick % 3 == 0) {
-                level.sendParticles(ParticleTypes.WITCH,
-                        currentPos.x, currentPos.y, currentPos.z,
-                        2, 0.1, 0.1, 0.1, 0.01);
-            }
-
-            if (currentTick == SchoolConfig.beamTotalTicks()) {
-                PortalParticles.createPortalArrivalEffect(level, targetPos);
-                level.playSound(null, targetPos.x, targetPos.y, targetPos.z,
-                        SoundEvents.CONDUIT_ACTIVATE, SoundSource.PLAYERS, 0.4F, 0.6F);
-                spawnPortal(level, player, targetPos);
-                return false;
+            if (remainingTicks > 0) {
+                remainingTicks--;
+                return true;
             }
 
-            currentTick++;
-            return true;
+            PortalParticles.createPortalArrivalEffect(level, targetPos);
+            level.playSound(null, targetPos.x, targetPos.y, targetPos.z,
+                    SoundEvents.CONDUIT_ACTIVATE, SoundSource.PLAYERS, 0.4F, 0.6F);
+            spawnPortal(level, player, targetPos);
+            return false;
         }
     }
 }
@@ -6,6 +6,7 @@ import de.piggidragon.elementalrealms.registries.configs.DimensionsConfig;
 import de.piggidragon.elementalrealms.registries.entities.custom.misc.PortalEntity;
 import de.piggidragon.elementalrealms.registries.worldgen.chunkgen.custom.BoundedChunkGenerator;
 import de.piggidragon.elementalrealms.saveddata.GenerationCenterData;
+import de.piggidragon.elementalrealms.saveddata.RealmSpawnData;
 import net.commoble.infiniverse.api.InfiniverseAPI;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
@@ -46,6 +47,16 @@ public final class DynamicDimensionHandler {
         return generationCenters;
     }
 
+    /**
+     * As {@link #getGenerationCenterData()}, initializing from {@code server} on first use.
+     */
+    static GenerationCenterData getGenerationCenterData(MinecraftServer server) {
+        if (generationCenters == null) {
+            initialize(server);
+        }
+        return generationCenters;
+    }
+
     /**
      * Returns the unique dimension key for the portal's destination, creating it
      * via Infiniverse on first call. Returns null if creation fails.
@@ -70,6 +81,35 @@ public final class DynamicDimensionHandler {
             }
         }
 
+        // Prefer a realm the pool already created off the hot path; fall back to building
+        // one synchronously when the pool is empty or disabled.
+        ResourceKey<Level> dimensionKey = RealmPool.claim(server, levelResourceKey);
+        if (dimensionKey != null) {
+            ElementalRealms.LOGGER.info("Claimed pre-warmed dimension {} for portal {}", dimensionKey.location(), portal);
+        } else {
+            dimensionKey = createRealm(server, levelResourceKey);
+            if (dimensionKey == null) {
+                return null;
+            }
+        }
+
+        if (portal != null) {
+            portal.setData(ModAttachments.PORTAL_TARGET_LEVEL, dimensionKey);
+        }
+        return dimensionKey;
+    }
+
+    /**
+     * Allocates the next {@code realm_<n>} key and generation center, and creates the level
+     * via Infiniverse from {@code levelResourceKey}'s template stem. Returns null if creation
+     * fails, after releasing the center again. Shared by the synchronous portal path and
+     * {@link RealmPool} refills.
+     */
+    static ResourceKey<Level> createRealm(MinecraftServer server, ResourceKey<Level> levelResourceKey) {
+        if (generationCenters == null) {
+            initialize(server);
+        }
+
         ResourceKey<Level> dimensionKey = ResourceKey.create(
                 Registries.DIMENSION,
                 ResourceLocation.fromNamespaceAndPath(
@@ -78,7 +118,8 @@ public final class DynamicDimensionHandler {
                 )
         );
 
-        ElementalRealms.LOGGER.info("Creating new dimension {} for portal {}", dimensionKey.location(), portal);
+        ElementalRealms.LOGGER.info("Creating new dimension {} from template {}",
+                dimensionKey.location(), levelResourceKey.location());
 
         try {
             ChunkPos generationCenter = getOrCreateGenerationCenter(server);
@@ -91,11 +132,9 @@ public final class DynamicDimensionHandler {
             );
 
             if (newLevel != null) {
-                if (portal != null) {
-                    portal.setData(ModAttachments.PORTAL_TARGET_LEVEL, dimensionKey);
-                }
                 ElementalRealms.LOGGER.info("Successfully created dimension {} with custom generator",
                         dimensionKey.location());
+                RealmSpawnPregen.start(newLevel, generationCenter);
                 generationCenters.recordAssignedIndex(generationCenters.getCurrentMaxIndex() + 1);
                 return dimensionKey;
             }
@@ -103,32 +142,92 @@ public final class DynamicDimensionHandler {
             ElementalRealms.LOGGER.error("Error creating dimension: ", e);
         }
 
+        // The center may have come out of the free queue; hand it back so a failed creation
+        // doesn't leak it. No-op if we failed before registering one.
+        generationCenters.releaseGenerationCenter(dimensionKey);
         return null;
     }
 
     /**
-     * Marks the portal's dynamically-created dimension for unregistration.
+     * Re-registers an existing realm (e.g. an unclaimed pooled realm after a restart) with
+     * Infiniverse, reusing its generation center and the chunks already on disk. Returns
+     * false if the level could not be created.
+     */
+    static boolean reattachRealm(MinecraftServer server, ResourceKey<Level> realm, ResourceKey<Level> template) {
+        if (generationCenters == null) {
+            initialize(server);
+        }
+        try {
+            ServerLevel level = InfiniverseAPI.get().getOrCreateLevel(
+                    server,
+                    realm,
+                    () -> createCustomLevelStem(server, template, realm)
+            );
+            return level != null;
+        } catch (Exception e) {
+            ElementalRealms.LOGGER.error("Error re-attaching dimension {}: ", realm.location(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Marks the portal's dynamically-created dimension for unregistration and hands its
+     * generation center back to the free list so the next realm can reuse the slot.
      */
     public static void removeDimensionForPortal(MinecraftServer server, PortalEntity portal) {
         ResourceKey<Level> dimensionKey = portal.getData(ModAttachments.PORTAL_TARGET_LEVEL);
         if (dimensionKey == Level.OVERWORLD) return;
 
+        if (generationCenters == null) {
+            initialize(server);
+        }
+
         ElementalRealms.LOGGER.info("Removing dimension {} for portal {}", dimensionKey.location(), portal);
         portal.removeData(ModAttachments.PORTAL_TARGET_LEVEL);
+        discardRealm(server, dimensionKey);
+    }
+
+    /**
+     * Unregisters a realm through Infiniverse and returns its generation center to the
+     * free list. Used for portal cleanup and for pooled realms nobody claimed.
+     */
+    static void discardRealm(MinecraftServer server, ResourceKey<Level> dimensionKey) {
+        // Before the center is released, so worldgen still in flight voids instead of failing.
+        ServerLevel level = server.getLevel(dimensionKey);
+        if (level != null && level.getChunkSource().getGenerator() instanceof BoundedChunkGenerator generator) {
+            generator.markDiscarded();
+        }
         InfiniverseAPI.get().markDimensionForUnregistration(server, dimensionKey);
-        ElementalRealms.LOGGER.info("Dimension {} marked for unregistration", dimensionKey.location());
+        generationCenters.releaseGenerationCenter(dimensionKey);
+        RealmSpawnData.get(server).invalidate(dimensionKey);
+        ElementalRealms.LOGGER.info("Dimension {} marked for unregistration ({} free generation centers)",
+                dimensionKey.location(), generationCenters.getFreeCenterCount());
+    }
+
+    /**
+     * Drops the cached {@link GenerationCenterData} reference. Called when the server stops
+     * so an integrated server that opens another world re-reads that world's data.
+     */
+    public static void shutdown() {
+        generationCenters = null;
     }
 
     /**
      * Returns the next free generation center on a concentric ring around origin.
-     * The first portal always uses (0, 0); subsequent ones walk outward in square
-     * rings whose size grows with the current layer.
+     * Centers vacated by removed realms are reused first (nearest to origin wins).
+     * Otherwise the first portal uses (0, 0) and subsequent ones walk outward in
+     * square rings whose size grows with the current layer.
      */
     public static ChunkPos getOrCreateGenerationCenter(MinecraftServer server) {
         if (generationCenters == null) {
             initialize(server);
         }
 
+        ChunkPos recycled = generationCenters.pollFreeCenter();
+        if (recycled != null) {
+            return recycled;
+        }
+
         // First-ever portal lands at (0, 0); subsequent ones walk the concentric-ring layout.
         if (generationCenters.getGenerationCenterCount() == 0) {
             return new ChunkPos(0, 0);
@@ -171,11 +270,12 @@ public final class DynamicDimensionHandler {
     }
 
     private static ChunkPos checkSide(int layer, int radius, int x, int z) {
-        ChunkPos center = new ChunkPos(x * radius, z * radius);
-        if (generationCenters.getGenerationCenters().containsValue(center)) {
+        int centerX = x * radius;
+        int centerZ = z * radius;
+        if (generationCenters.isCenterOccupied(centerX, centerZ)) {
             return null;
         }
-        return center;
+        return new ChunkPos(centerX, centerZ);
     }
 
     private static LevelStem createCustomLevelStem(
@@ -9,6 +9,7 @@ import net.minecraft.world.level.dimension.LevelStem;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Resource keys for custom dimensions. Must match dimension JSON files in the data pack.
@@ -48,6 +49,14 @@ public final class ModLevel {
         return LEVELS;
     }
 
+    /**
+     * Template dimensions that have a stem and can therefore be cloned into {@code realm_<n>}
+     * instances by {@link DynamicDimensionHandler}.
+     */
+    public static Set<ResourceKey<Level>> getTemplates() {
+        return LEVEL_STEMS.keySet();
+    }
+
     public static ResourceKey<LevelStem> getStemForLevel(ResourceKey<Level> level) {
         return LEVEL_STEMS.get(level);
     }
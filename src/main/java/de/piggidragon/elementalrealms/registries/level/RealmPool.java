@@ -0,0 +1,121 @@
+package de.piggidragon.elementalrealms.registries.level;
+
+import de.piggidragon.elementalrealms.ElementalRealms;
+import de.piggidragon.elementalrealms.registries.configs.DimensionsConfig;
+import de.piggidragon.elementalrealms.saveddata.GenerationCenterData;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps a small number of {@code realm_<n>} dimensions pre-created per template, so a
+ * portal can claim a ready realm in constant time instead of building the stem and
+ * calling Infiniverse on the tick the player steps through.
+ *
+ * <p>Infiniverse level creation has to happen on the server thread, so refills still
+ * create one realm synchronously on a server tick; they are only throttled (one realm
+ * per {@code realmPoolRefillIntervalTicks}) and kept off the portal-use tick. The spawn
+ * area itself is generated off-thread by {@link RealmSpawnPregen}. Because of that cost
+ * the pool is disabled by default ({@code realmPoolSize} 0).</p>
+ *
+ * <p>Pool membership is persisted in {@link GenerationCenterData}. Unclaimed realms are
+ * kept across restarts and re-attached one per tick on the next start, before any refill,
+ * instead of being discarded and regenerated under a new index.</p>
+ */
+public final class RealmPool {
+
+    private static final Map<ResourceKey<Level>, Deque<ResourceKey<Level>>> WARM_REALMS = new HashMap<>();
+    // Persisted pool entries still to re-attach this session; null until the first tick.
+    private static Deque<Map.Entry<ResourceKey<Level>, ResourceKey<Level>>> toRestore;
+    private static int ticksUntilRefill = 0;
+
+    private RealmPool() {
+    }
+
+    /**
+     * Removes and returns a pre-created realm cloned from {@code template}, or null if
+     * none is ready.
+     */
+    public static ResourceKey<Level> claim(MinecraftServer server, ResourceKey<Level> template) {
+        Deque<ResourceKey<Level>> realms = WARM_REALMS.get(template);
+        ResourceKey<Level> realm = realms == null ? null : realms.pollFirst();
+        if (realm != null) {
+            DynamicDimensionHandler.getGenerationCenterData(server).removePooledRealm(realm);
+        }
+        return realm;
+    }
+
+    /**
+     * Re-attaches one persisted realm, or creates at most one realm for the first template
+     * below the configured pool size. Called once per server tick.
+     */
+    public static void tick(MinecraftServer server) {
+        if (toRestore == null) {
+            toRestore = new ArrayDeque<>(Map.copyOf(
+                    DynamicDimensionHandler.getGenerationCenterData(server).getPooledRealms()).entrySet());
+            // Keep the first refill off the startup ticks.
+            ticksUntilRefill = Math.max(1, DimensionsConfig.realmPoolRefillIntervalTicks());
+        }
+        if (!toRestore.isEmpty()) {
+            Map.Entry<ResourceKey<Level>, ResourceKey<Level>> entry = toRestore.pollFirst();
+            restore(server, entry.getKey(), entry.getValue());
+            return;
+        }
+
+        int poolSize = DimensionsConfig.realmPoolSize();
+        if (poolSize <= 0) return;
+        if (--ticksUntilRefill > 0) return;
+        ticksUntilRefill = Math.max(1, DimensionsConfig.realmPoolRefillIntervalTicks());
+
+        for (ResourceKey<Level> template : ModLevel.getTemplates()) {
+            Deque<ResourceKey<Level>> realms = WARM_REALMS.computeIfAbsent(template, key -> new ArrayDeque<>());
+            if (realms.size() >= poolSize) continue;
+
+            ResourceKey<Level> realm = DynamicDimensionHandler.createRealm(server, template);
+            if (realm != null) {
+                realms.addLast(realm);
+                DynamicDimensionHandler.getGenerationCenterData(server).addPooledRealm(realm, template);
+                ElementalRealms.LOGGER.debug("Pre-warmed {} from template {} ({}/{} ready)",
+                        realm.location(), template.location(), realms.size(), poolSize);
+            }
+            return;
+        }
+    }
+
+    private static void restore(MinecraftServer server, ResourceKey<Level> realm, ResourceKey<Level> template) {
+        GenerationCenterData data = DynamicDimensionHandler.getGenerationCenterData(server);
+        if (!ModLevel.getTemplates().contains(template)
+                || !DynamicDimensionHandler.reattachRealm(server, realm, template)) {
+            // Template removed from config, or Infiniverse refused the level: free the slot.
+            ElementalRealms.LOGGER.warn("Dropping pooled realm {} (template {})", realm.location(), template.location());
+            data.releaseGenerationCenter(realm);
+            return;
+        }
+        Deque<ResourceKey<Level>> realms = WARM_REALMS.computeIfAbsent(template, key -> new ArrayDeque<>());
+        realms.addLast(realm);
+        ElementalRealms.LOGGER.debug("Re-attached pooled realm {} from template {}", realm.location(), template.location());
+    }
+
+    /**
+     * Number of ready realms for {@code template}.
+     */
+    public static int size(ResourceKey<Level> template) {
+        Deque<ResourceKey<Level>> realms = WARM_REALMS.get(template);
+        return realms == null ? 0 : realms.size();
+    }
+
+    /**
+     * Forgets the in-memory pool. Unclaimed realms stay registered in
+     * {@link GenerationCenterData} and are re-attached on the next start.
+     */
+    public static void clear() {
+        WARM_REALMS.clear();
+        toRestore = null;
+        ticksUntilRefill = 0;
+    }
+}
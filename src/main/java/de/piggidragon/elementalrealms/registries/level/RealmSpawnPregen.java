@@ -0,0 +1,131 @@
+package de.piggidragon.elementalrealms.registries.level;
+
+import de.piggidragon.elementalrealms.ElementalRealms;
+import de.piggidragon.elementalrealms.registries.configs.DimensionsConfig;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the spawn area of a freshly created realm through the chunk system's own
+ * worker threads, so the first player through the portal doesn't block the server tick
+ * on noise generation.
+ *
+ * <p>{@link #start} only adds a region ticket covering the {@code spawnPregenRadius}
+ * area; the chunk system then promotes those chunks to FULL in the background. Nothing
+ * here asks for a chunk future on the server thread, since that path waits for the chunk
+ * inside the tick. {@link #tick} polls the area with {@code getChunkNow} instead, which
+ * never blocks. Until the whole area is loaded,
+ * {@link de.piggidragon.elementalrealms.registries.entities.custom.misc.PortalEntity}
+ * holds players in a "realm forming" state.</p>
+ *
+ * <p>Server thread only.</p>
+ */
+public final class RealmSpawnPregen {
+
+    // Long enough to cover a pooled realm waiting for its first visitor without pinning
+    // the spawn area forever.
+    private static final int TICKET_LIFETIME_TICKS = 20 * 60 * 5;
+    private static final TicketType<ChunkPos> REALM_SPAWN_TICKET =
+            TicketType.create("elementalrealms_realm_spawn", Comparator.comparingLong(ChunkPos::toLong), TICKET_LIFETIME_TICKS);
+
+    private static final Map<ResourceKey<Level>, Pending> PENDING = new HashMap<>();
+
+    private RealmSpawnPregen() {
+    }
+
+    /**
+     * Queues generation of the {@code spawnPregenRadius} chunks around {@code center}.
+     * Returns immediately; the chunks are generated off-thread.
+     */
+    public static void start(ServerLevel level, ChunkPos center) {
+        int radius = DimensionsConfig.spawnPregenRadius();
+        // A region ticket of distance r brings every chunk within r of the center to FULL.
+        level.getChunkSource().addRegionTicket(REALM_SPAWN_TICKET, center, radius, center);
+        PENDING.put(level.dimension(), new Pending(level, center, radius, System.nanoTime()));
+    }
+
+    /**
+     * Polls every pending realm and retires the ones whose spawn area is fully loaded.
+     * Called once per server tick.
+     */
+    public static void tick(MinecraftServer server) {
+        if (PENDING.isEmpty()) return;
+
+        Iterator<Pending> iterator = PENDING.values().iterator();
+        while (iterator.hasNext()) {
+            Pending pending = iterator.next();
+            if (server.getLevel(pending.level.dimension()) != pending.level) {
+                // Realm was unregistered before its spawn finished.
+                iterator.remove();
+                continue;
+            }
+            if (!pending.poll()) continue;
+
+            iterator.remove();
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pending.startNanos);
+            ElementalRealms.LOGGER.info("Pre-generated spawn area of {} (radius {} chunks) in {} ms",
+                    pending.level.dimension().location(), pending.radius, millis);
+        }
+    }
+
+    /**
+     * True once the realm's whole spawn area has finished generating, or if the realm never
+     * went through {@link #start} (datapack dimensions, realms from before a restart).
+     */
+    public static boolean isReady(ResourceKey<Level> level) {
+        Pending pending = PENDING.get(level);
+        if (pending == null) return true;
+        if (!pending.poll()) return false;
+        PENDING.remove(level);
+        return true;
+    }
+
+    public static void clear() {
+        PENDING.clear();
+    }
+
+    /**
+     * Pregen in progress. Chunks are checked in a fixed row-major order and
+     * {@code nextIndex} remembers how far the check got, so each chunk is confirmed
+     * loaded at most once.
+     */
+    private static final class Pending {
+        private final ServerLevel level;
+        private final ChunkPos center;
+        private final int radius;
+        private final long startNanos;
+        private int nextIndex;
+
+        private Pending(ServerLevel level, ChunkPos center, int radius, long startNanos) {
+            this.level = level;
+            this.center = center;
+            this.radius = radius;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Advances past every chunk that is already FULL. True when the whole area is.
+         */
+        private boolean poll() {
+            int side = radius * 2 + 1;
+            int total = side * side;
+            while (nextIndex < total) {
+                int x = center.x - radius + nextIndex % side;
+                int z = center.z - radius + nextIndex / side;
+                if (level.getChunkSource().getChunkNow(x, z) == null) return false;
+                nextIndex++;
+            }
+            return true;
+        }
+    }
+}
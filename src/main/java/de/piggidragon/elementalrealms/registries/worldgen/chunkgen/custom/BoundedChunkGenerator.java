@@ -4,6 +4,7 @@ import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import de.piggidragon.elementalrealms.registries.configs.DimensionsConfig;
 import de.piggidragon.elementalrealms.registries.level.DynamicDimensionHandler;
+import de.piggidragon.elementalrealms.saveddata.GenerationCenterData;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.resources.ResourceKey;
@@ -15,6 +16,7 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.levelgen.*;
 import net.minecraft.world.level.levelgen.blending.Blender;
 
@@ -22,6 +24,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Chunk generator that produces noise terrain only inside a square radius around
@@ -37,8 +40,37 @@ public class BoundedChunkGenerator extends NoiseBasedChunkGenerator {
             ).apply(instance, BoundedChunkGenerator::new)
     );
 
+    private static final int SECTION_SIZE = 16;
+    private static final Set<Heightmap.Types> ALL_HEIGHTMAPS = Set.of(Heightmap.Types.values());
+
     private ResourceKey<Level> level;
 
+    /**
+     * Chunk-space bounds resolved from the generation center and radius. Written once per
+     * config revision and read lock-free from worldgen worker threads; the record's final
+     * fields make the snapshot safe to publish through the volatile reference.
+     */
+    private volatile Bounds bounds;
+
+    /**
+     * Set once the realm is being unregistered and its center released. Only then does a
+     * missing center mean "generate void"; for a live realm it's an error.
+     */
+    private volatile boolean discarded;
+
+    /**
+     * Shared all-air column returned for every out-of-bounds {@link #getBaseColumn} query.
+     * Sized from this generator's own min Y / gen depth, built on first use. Callers only
+     * read base columns (structure placement, {@code /locate}), so one instance is shared.
+     */
+    private volatile NoiseColumn voidColumn;
+
+    // getBaseColumn outcomes, shown on the F3 screen. Counted there rather than in
+    // isWithinBounds so the per-chunk worldgen checks stay free of shared writes; LongAdder
+    // keeps structure placement threads from contending on a single counter.
+    private final LongAdder boundedColumns = new LongAdder();
+    private final LongAdder voidColumns = new LongAdder();
+
     public BoundedChunkGenerator(BiomeSource biomeSource, Holder<NoiseGeneratorSettings> settings) {
         super(biomeSource, settings);
     }
@@ -72,7 +104,8 @@ public class BoundedChunkGenerator extends NoiseBasedChunkGenerator {
         if (level == null) {
             return super.fillFromNoise(blender, randomState, structureManager, chunk);
         }
-        if (!isWithinBounds(chunk.getPos())) {
+        ChunkPos pos = chunk.getPos();
+        if (!isWithinBounds(pos.x, pos.z)) {
             generateVoidChunk(chunk);
             return CompletableFuture.completedFuture(chunk);
         }
@@ -86,7 +119,8 @@ public class BoundedChunkGenerator extends NoiseBasedChunkGenerator {
             super.buildSurface(region, structureManager, randomState, chunk);
             return;
         }
-        if (isWithinBounds(chunk.getPos())) {
+        ChunkPos pos = chunk.getPos();
+        if (isWithinBounds(pos.x, pos.z)) {
             super.buildSurface(region, structureManager, randomState, chunk);
         }
     }
@@ -99,7 +133,8 @@ public class BoundedChunkGenerator extends NoiseBasedChunkGenerator {
             super.applyCarvers(region, seed, random, biomeManager, structureManager, chunk, step);
             return;
         }
-        if (isWithinBounds(chunk.getPos())) {
+        ChunkPos pos = chunk.getPos();
+        if (isWithinBounds(pos.x, pos.z)) {
             super.applyCarvers(region, seed, random, biomeManager, structureManager, chunk, step);
         }
     }
@@ -108,50 +143,139 @@ public class BoundedChunkGenerator extends NoiseBasedChunkGenerator {
     public int getBaseHeight(int x, int z, Heightmap.Types type,
                              LevelHeightAccessor accessor, RandomState randomState) {
         if (level == null) return super.getBaseHeight(x, z, type, accessor, randomState);
-        ChunkPos chunkPos = new ChunkPos(x >> 4, z >> 4);
-        return isWithinBounds(chunkPos) ? super.getBaseHeight(x, z, type, accessor, randomState) : getMinY();
+        return isWithinBounds(x >> 4, z >> 4) ? super.getBaseHeight(x, z, type, accessor, randomState) : getMinY();
     }
 
     @Override
     public NoiseColumn getBaseColumn(int x, int z, LevelHeightAccessor accessor, RandomState randomState) {
         if (level == null) return super.getBaseColumn(x, z, accessor, randomState);
-        ChunkPos chunkPos = new ChunkPos(x >> 4, z >> 4);
-        if (!isWithinBounds(chunkPos)) {
-            BlockState[] states = new BlockState[getGenDepth()];
-            Arrays.fill(states, Blocks.AIR.defaultBlockState());
-            return new NoiseColumn(getMinY(), states);
+        if (!isWithinBounds(x >> 4, z >> 4)) {
+            voidColumns.increment();
+            return getVoidColumn();
         }
+        boundedColumns.increment();
         return super.getBaseColumn(x, z, accessor, randomState);
     }
 
     @Override
     public void addDebugScreenInfo(List<String> info, RandomState randomState, BlockPos pos) {
         info.add("Bounds: " + (-getRadius()) + " to " + getRadius() + " chunks");
+        if (level != null) {
+            long bounded = boundedColumns.sum();
+            long voided = voidColumns.sum();
+            long total = bounded + voided;
+            info.add(String.format("Base columns: %d bounded / %d void (%.1f%% void)",
+                    bounded, voided, total == 0 ? 0.0 : voided * 100.0 / total));
+        }
         super.addDebugScreenInfo(info, randomState, pos);
     }
 
-    private boolean isWithinBounds(ChunkPos pos) {
-        ChunkPos center = DynamicDimensionHandler.getGenerationCenterData()
-                .getGenerationCenters()
-                .get(level);
+    /**
+     * Hot path for every worldgen callback: one volatile read, one int compare against the
+     * config revision, then four int compares. The center lookup and radius read only run
+     * on first use and after {@code dimensions.json} is reloaded.
+     */
+    private boolean isWithinBounds(int chunkX, int chunkZ) {
+        Bounds current = bounds;
+        if (current == null || current.revision != DimensionsConfig.revision()) {
+            current = resolveBounds();
+        }
+        return chunkX >= current.minX
+                && chunkX <= current.maxX
+                && chunkZ >= current.minZ
+                && chunkZ <= current.maxZ;
+    }
+
+    /**
+     * Rebuilds {@link #bounds} from the level's generation center and the configured radius.
+     * A {@link #markDiscarded() discarded} realm resolves to empty bounds, cached like any
+     * other, so straggling worldgen for it just produces void. For a live realm, missing
+     * center data is a bug: failing the chunk beats saving in-bounds terrain as void.
+     */
+    private Bounds resolveBounds() {
+        int revision = DimensionsConfig.revision();
+        if (discarded) {
+            return bounds = Bounds.empty(revision);
+        }
+        GenerationCenterData data = DynamicDimensionHandler.getGenerationCenterData();
+        if (data == null) {
+            throw new IllegalStateException("Generation center data not loaded while generating " + level.location());
+        }
+        ChunkPos center = data.getGenerationCenters().get(level);
+        if (center == null) {
+            // discardRealm flags the generator before releasing the center.
+            if (discarded) return bounds = Bounds.empty(revision);
+            throw new IllegalStateException("No generation center registered for " + level.location());
+        }
         int radius = getRadius();
-        return pos.x >= -radius + center.x
-                && pos.x <= radius + center.x
-                && pos.z >= -radius + center.z
-                && pos.z <= radius + center.z;
+        Bounds resolved = new Bounds(
+                revision,
+                center.x - radius,
+                center.x + radius,
+                center.z - radius,
+                center.z + radius
+        );
+        bounds = resolved;
+        return resolved;
     }
 
-    private void generateVoidChunk(ChunkAccess chunk) {
+    private NoiseColumn getVoidColumn() {
+        NoiseColumn column = voidColumn;
+        if (column == null) {
+            BlockState[] states = new BlockState[getGenDepth()];
+            Arrays.fill(states, Blocks.AIR.defaultBlockState());
+            column = new NoiseColumn(getMinY(), states);
+            voidColumn = column;
+        }
+        return column;
+    }
+
+    /**
+     * Forces the next bounds check to re-resolve the center and radius. Config reloads are
+     * picked up automatically through {@link DimensionsConfig#revision()}; this is for
+     * callers that move a level's generation center.
+     */
+    public void invalidateBounds() {
+        bounds = null;
+    }
+
+    /**
+     * Called when the realm is unregistered, before its generation center is released.
+     * From then on every chunk of this level generates as void.
+     */
+    public void markDiscarded() {
+        discarded = true;
+        bounds = null;
+    }
+
+    /**
+     * Voids an out-of-bounds chunk section by section. Sections that already hold only air
+     * (every section of a fresh proto chunk) are skipped outright; anything else is cleared
+     * in place through the section's local-coordinate setter, so no {@link BlockPos} is
+     * allocated per block. Sections are cleared rather than swapped for a shared empty
+     * instance because they also carry the biomes filled in the earlier BIOMES step.
+     */
+    static void generateVoidChunk(ChunkAccess chunk) {
         BlockState air = Blocks.AIR.defaultBlockState();
-        int minY = chunk.getMinBuildHeight();
-        int maxY = chunk.getMaxBuildHeight();
-        for (int x = 0; x < 16; x++) {
-            for (int z = 0; z < 16; z++) {
-                for (int y = minY; y < maxY; y++) {
-                    chunk.setBlockState(new BlockPos(x, y, z), air, true);
+        for (LevelChunkSection section : chunk.getSections()) {
+            if (section.hasOnlyAir()) continue;
+            for (int y = 0; y < SECTION_SIZE; y++) {
+                for (int z = 0; z < SECTION_SIZE; z++) {
+                    for (int x = 0; x < SECTION_SIZE; x++) {
+                        section.setBlockState(x, y, z, air);
+                    }
                 }
             }
         }
-        Heightmap.primeHeightmaps(chunk, Set.of(Heightmap.Types.values()));
+        Heightmap.primeHeightmaps(chunk, ALL_HEIGHTMAPS);
+    }
+
+    private record Bounds(int revision, int minX, int maxX, int minZ, int maxZ) {
+        /**
+         * Bounds no chunk falls within (min > max on both axes).
+         */
+        static Bounds empty(int revision) {
+            return new Bounds(revision, 0, -1, 0, -1);
+        }
     }
 }
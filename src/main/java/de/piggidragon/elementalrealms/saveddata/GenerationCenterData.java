@@ -3,6 +3,8 @@ package de.piggidragon.elementalrealms.saveddata;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import de.piggidragon.elementalrealms.ElementalRealms;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.resources.ResourceKey;
@@ -12,13 +14,31 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.saveddata.SavedData;
 import net.minecraft.world.level.storage.DimensionDataStorage;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 
 /**
  * Persistent map of {@code ResourceKey<Level> -> ChunkPos} storing the chunk where each
  * dynamically-generated dimension starts its worldgen. Stored against the Overworld so
  * the data survives restarts.
+ * <p>
+ * A reverse index of occupied centers (packed via {@link ChunkPos#asLong}) is kept in
+ * lockstep with the forward map so the ring scan in {@code DynamicDimensionHandler}
+ * can test a slot in O(1) instead of scanning every registered center. The index is
+ * derived state: it is rebuilt on load and never serialized.
+ * <p>
+ * Centers released by removed realms go into a free list ordered by distance from the
+ * origin. New realms take the nearest vacated slot before the ring walk advances, so
+ * the layout stays as compact as the number of live realms allows.
+ * <p>
+ * Realms sitting unclaimed in {@code RealmPool} are recorded with their template, so the
+ * pool can re-attach them after a restart instead of creating new ones.
  */
 public class GenerationCenterData extends SavedData {
 
@@ -31,6 +51,14 @@ public class GenerationCenterData extends SavedData {
             ).apply(instance, ChunkPos::new)
     );
 
+    /**
+     * Orders free centers by ring (Chebyshev distance from origin), then by squared
+     * distance, so the innermost vacated slot is always reused first.
+     */
+    private static final Comparator<ChunkPos> NEAREST_FIRST = Comparator
+            .<ChunkPos>comparingInt(pos -> Math.max(Math.abs(pos.x), Math.abs(pos.z)))
+            .thenComparingLong(pos -> (long) pos.x * pos.x + (long) pos.z * pos.z);
+
     private static final Codec<GenerationCenterData> CODEC = RecordCodecBuilder.create(instance ->
             instance.group(
                     Codec.unboundedMap(Level.RESOURCE_KEY_CODEC, CHUNK_POS_CODEC)
@@ -41,11 +69,23 @@ public class GenerationCenterData extends SavedData {
                     // optionalFieldOf with default 0 keeps backward-compat with saves written
                     // before this field existed.
                     Codec.INT.optionalFieldOf("currentMaxIndex", 0)
-                            .forGetter(data -> data.currentMaxIndex)
+                            .forGetter(data -> data.currentMaxIndex),
+                    // Centers vacated by removed realms, waiting to be reused. Optional for
+                    // saves written before realm recycling existed.
+                    CHUNK_POS_CODEC.listOf().optionalFieldOf("freeCenters", List.of())
+                            .forGetter(data -> new ArrayList<>(data.freeCenters)),
+                    // Unclaimed pooled realm -> template it was cloned from. Optional for
+                    // saves written before the pool was persisted.
+                    Codec.unboundedMap(Level.RESOURCE_KEY_CODEC, Level.RESOURCE_KEY_CODEC)
+                            .optionalFieldOf("pooledRealms", Map.of())
+                            .forGetter(data -> data.pooledRealms)
             ).apply(instance, GenerationCenterData::new)
     );
 
     private final Map<ResourceKey<Level>, ChunkPos> generationCenters;
+    private final LongSet occupiedCenters = new LongOpenHashSet();
+    private final PriorityQueue<ChunkPos> freeCenters = new PriorityQueue<>(NEAREST_FIRST);
+    private final Map<ResourceKey<Level>, ResourceKey<Level>> pooledRealms = new LinkedHashMap<>();
     private int layer = 1;
     private int currentMaxIndex = 0;
 
@@ -53,19 +93,28 @@ public class GenerationCenterData extends SavedData {
         this.generationCenters = new HashMap<>();
     }
 
-    private GenerationCenterData(Map<ResourceKey<Level>, ChunkPos> generationCenters, int layer) {
-        this.generationCenters = new HashMap<>(generationCenters);
-        this.layer = layer;
-    }
-
     private GenerationCenterData(
             Map<ResourceKey<Level>, ChunkPos> generationCenters,
             int layer,
-            int currentMaxIndex
+            int currentMaxIndex,
+            List<ChunkPos> freeCenters,
+            Map<ResourceKey<Level>, ResourceKey<Level>> pooledRealms
     ) {
         this.generationCenters = new HashMap<>(generationCenters);
         this.layer = layer;
         this.currentMaxIndex = currentMaxIndex;
+        rebuildIndex();
+        for (ChunkPos center : freeCenters) {
+            if (!occupiedCenters.contains(center.toLong())) {
+                this.freeCenters.add(center);
+            }
+        }
+        // A pooled realm without a center can't be re-attached; drop it.
+        pooledRealms.forEach((realm, template) -> {
+            if (this.generationCenters.containsKey(realm)) {
+                this.pooledRealms.put(realm, template);
+            }
+        });
     }
 
     public static GenerationCenterData get(MinecraftServer server) {
@@ -92,8 +141,21 @@ public class GenerationCenterData extends SavedData {
         return tag;
     }
 
+    /**
+     * Read-only view of the forward map. Mutations must go through
+     * {@link #addGenerationCenter} so the occupancy index stays in sync.
+     */
     public Map<ResourceKey<Level>, ChunkPos> getGenerationCenters() {
-        return generationCenters;
+        return Collections.unmodifiableMap(generationCenters);
+    }
+
+    /**
+     * O(1) check whether any dimension already uses the chunk at {@code (x, z)} as its
+     * generation center. Takes raw chunk coordinates so ring scans don't allocate a
+     * {@link ChunkPos} per probed slot.
+     */
+    public boolean isCenterOccupied(int x, int z) {
+        return occupiedCenters.contains(ChunkPos.asLong(x, z));
     }
 
     public int getCurrentLayer() {
@@ -128,10 +190,72 @@ public class GenerationCenterData extends SavedData {
     public void addGenerationCenter(ResourceKey<Level> level, ChunkPos center) {
         if (generationCenters.containsKey(level)) return;
         generationCenters.put(level, center);
+        occupiedCenters.add(center.toLong());
         this.setDirty();
     }
 
+    /**
+     * Drops {@code level}'s generation center and queues the slot for reuse. No-op if the
+     * level never had a center (e.g. datapack dimensions). O(log n) in the free-list size.
+     */
+    public void releaseGenerationCenter(ResourceKey<Level> level) {
+        pooledRealms.remove(level);
+        ChunkPos center = generationCenters.remove(level);
+        if (center == null) return;
+        occupiedCenters.remove(center.toLong());
+        freeCenters.add(center);
+        this.setDirty();
+    }
+
+    /**
+     * Removes and returns the vacated center closest to the origin, or {@code null} if
+     * no realm has been released. The caller is expected to claim it right away via
+     * {@link #addGenerationCenter}.
+     */
+    public ChunkPos pollFreeCenter() {
+        ChunkPos center = freeCenters.poll();
+        if (center != null) {
+            this.setDirty();
+        }
+        return center;
+    }
+
+    /**
+     * Records {@code realm} as an unclaimed pool entry cloned from {@code template}.
+     */
+    public void addPooledRealm(ResourceKey<Level> realm, ResourceKey<Level> template) {
+        pooledRealms.put(realm, template);
+        this.setDirty();
+    }
+
+    /**
+     * Forgets {@code realm} as a pool entry (claimed by a portal or discarded).
+     */
+    public void removePooledRealm(ResourceKey<Level> realm) {
+        if (pooledRealms.remove(realm) != null) {
+            this.setDirty();
+        }
+    }
+
+    /**
+     * Read-only view of unclaimed pooled realms and their templates, in insertion order.
+     */
+    public Map<ResourceKey<Level>, ResourceKey<Level>> getPooledRealms() {
+        return Collections.unmodifiableMap(pooledRealms);
+    }
+
+    public int getFreeCenterCount() {
+        return freeCenters.size();
+    }
+
     public int getGenerationCenterCount() {
         return generationCenters.size();
     }
+
+    private void rebuildIndex() {
+        occupiedCenters.clear();
+        for (ChunkPos center : generationCenters.values()) {
+            occupiedCenters.add(center.toLong());
+        }
+    }
 }
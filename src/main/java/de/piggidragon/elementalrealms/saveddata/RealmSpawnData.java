@@ -0,0 +1,107 @@
+package de.piggidragon.elementalrealms.saveddata;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import de.piggidragon.elementalrealms.ElementalRealms;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraft.world.level.storage.DimensionDataStorage;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Persistent map of {@code ResourceKey<Level> -> Vec3} caching where players land when
+ * they enter a realm. Stored against the Overworld next to {@link GenerationCenterData},
+ * so repeat teleports skip loading the spawn chunk and querying its heightmap. Entries
+ * are dropped when a block changes in the cached column or the realm is released. Not
+ * every change fires a block event, so the portal also re-checks an entry against the
+ * live blocks whenever its chunk is already loaded.
+ */
+public class RealmSpawnData extends SavedData {
+
+    private static final String DATA_NAME = "realm_spawns";
+
+    private static final Codec<RealmSpawnData> CODEC = RecordCodecBuilder.create(instance ->
+            instance.group(
+                    Codec.unboundedMap(Level.RESOURCE_KEY_CODEC, Vec3.CODEC)
+                            .fieldOf("spawns").forGetter(data -> data.spawns)
+            ).apply(instance, RealmSpawnData::new)
+    );
+
+    private final Map<ResourceKey<Level>, Vec3> spawns;
+
+    public RealmSpawnData() {
+        this.spawns = new HashMap<>();
+    }
+
+    private RealmSpawnData(Map<ResourceKey<Level>, Vec3> spawns) {
+        this.spawns = new HashMap<>(spawns);
+    }
+
+    public static RealmSpawnData get(MinecraftServer server) {
+        DimensionDataStorage storage = server.overworld().getDataStorage();
+        return storage.computeIfAbsent(
+                new Factory<>(RealmSpawnData::new, RealmSpawnData::load, null),
+                DATA_NAME
+        );
+    }
+
+    public static RealmSpawnData load(CompoundTag tag, net.minecraft.core.HolderLookup.Provider lookupProvider) {
+        return CODEC.parse(lookupProvider.createSerializationContext(NbtOps.INSTANCE), tag)
+                .resultOrPartial(error ->
+                        ElementalRealms.LOGGER.error("Failed to load RealmSpawnData: {}", error))
+                .orElseGet(RealmSpawnData::new);
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag, net.minecraft.core.HolderLookup.Provider lookupProvider) {
+        CODEC.encodeStart(lookupProvider.createSerializationContext(NbtOps.INSTANCE), this)
+                .resultOrPartial(error ->
+                        ElementalRealms.LOGGER.error("Failed to save RealmSpawnData: {}", error))
+                .ifPresent(encoded -> tag.merge((CompoundTag) encoded));
+        return tag;
+    }
+
+    /**
+     * Cached spawn for {@code level}, or {@code null} if it hasn't been resolved yet.
+     */
+    public Vec3 getSpawn(ResourceKey<Level> level) {
+        return spawns.get(level);
+    }
+
+    /**
+     * Caches {@code spawn}. Re-putting the position already cached (a re-check that resolved
+     * to the same spot) doesn't mark the data dirty.
+     */
+    public void putSpawn(ResourceKey<Level> level, Vec3 spawn) {
+        if (spawn.equals(spawns.put(level, spawn))) return;
+        this.setDirty();
+    }
+
+    public void invalidate(ResourceKey<Level> level) {
+        if (spawns.remove(level) != null) {
+            this.setDirty();
+        }
+    }
+
+    /**
+     * Drops {@code level}'s entry if {@code pos} lies in the cached spawn column. O(1):
+     * one map lookup plus two int compares, cheap enough to run for every block change.
+     */
+    public void invalidateIfInColumn(ResourceKey<Level> level, BlockPos pos) {
+        Vec3 spawn = spawns.get(level);
+        if (spawn == null) return;
+        if (Mth.floor(spawn.x) == pos.getX() && Mth.floor(spawn.z) == pos.getZ()) {
+            spawns.remove(level);
+            this.setDirty();
+        }
+    }
+}
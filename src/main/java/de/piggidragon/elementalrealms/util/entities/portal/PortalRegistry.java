@@ -0,0 +1,167 @@
+package de.piggidragon.elementalrealms.util.entities.portal;
+
+import de.piggidragon.elementalrealms.registries.entities.custom.misc.PortalEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Server-side index of live {@link PortalEntity} instances per level, keyed by chunk
+ * section and by owner UUID. Replaces {@code getEntitiesOfClass} sweeps over huge AABBs:
+ * nearest-portal and owner lookups cost O(portals nearby) instead of walking every
+ * entity section in the search volume.
+ *
+ * <p>Portals register themselves in {@code onAddedToLevel} and unregister in
+ * {@code onRemovedFromLevel} (which covers discards, kills and chunk unloads). Portals
+ * don't move after spawning, so the section recorded at registration stays valid.
+ * Server thread only.</p>
+ */
+public final class PortalRegistry {
+
+    private static final Map<ResourceKey<Level>, LevelPortals> LEVELS = new HashMap<>();
+
+    private PortalRegistry() {
+    }
+
+    /**
+     * Adds {@code portal} to its level's index. Returns the section key it was filed under,
+     * which the portal hands back to {@link #unregister}.
+     */
+    public static long register(PortalEntity portal) {
+        long section = SectionPos.asLong(portal.blockPosition());
+        LEVELS.computeIfAbsent(portal.level().dimension(), key -> new LevelPortals()).add(portal, section);
+        return section;
+    }
+
+    public static void unregister(PortalEntity portal, long section) {
+        LevelPortals portals = LEVELS.get(portal.level().dimension());
+        if (portals != null) {
+            portals.remove(portal, section);
+        }
+    }
+
+    /**
+     * Nearest live portal within a {@code searchRadius} cube around {@code position}, or null.
+     * Walks whichever is smaller: the sections the cube covers, or every portal in the level.
+     */
+    @Nullable
+    public static PortalEntity findNearest(ResourceKey<Level> level, Vec3 position, double searchRadius) {
+        LevelPortals portals = LEVELS.get(level);
+        if (portals == null || portals.all.isEmpty()) return null;
+
+        int minX = SectionPos.blockToSectionCoord(position.x - searchRadius);
+        int minY = SectionPos.blockToSectionCoord(position.y - searchRadius);
+        int minZ = SectionPos.blockToSectionCoord(position.z - searchRadius);
+        int maxX = SectionPos.blockToSectionCoord(position.x + searchRadius);
+        int maxY = SectionPos.blockToSectionCoord(position.y + searchRadius);
+        int maxZ = SectionPos.blockToSectionCoord(position.z + searchRadius);
+        long sectionCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+
+        Nearest nearest = new Nearest(position, searchRadius);
+        if (sectionCount > portals.all.size()) {
+            for (PortalEntity portal : portals.all) {
+                nearest.offer(portal);
+            }
+        } else {
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        List<PortalEntity> inSection = portals.bySection.get(SectionPos.asLong(x, y, z));
+                        if (inSection == null) continue;
+                        for (PortalEntity portal : inSection) {
+                            nearest.offer(portal);
+                        }
+                    }
+                }
+            }
+        }
+        return nearest.portal;
+    }
+
+    /**
+     * Live portals in {@code level} owned by {@code owner}. Returns a copy, so callers may
+     * discard portals while iterating.
+     */
+    public static List<PortalEntity> findOwnedBy(ResourceKey<Level> level, UUID owner) {
+        LevelPortals portals = LEVELS.get(level);
+        if (portals == null) return List.of();
+        List<PortalEntity> owned = portals.byOwner.get(owner);
+        return owned == null ? List.of() : new ArrayList<>(owned);
+    }
+
+    public static void clear() {
+        LEVELS.clear();
+    }
+
+    private static final class LevelPortals {
+        private final Set<PortalEntity> all = new ReferenceOpenHashSet<>();
+        private final Long2ObjectMap<List<PortalEntity>> bySection = new Long2ObjectOpenHashMap<>();
+        private final Map<UUID, List<PortalEntity>> byOwner = new HashMap<>();
+
+        void add(PortalEntity portal, long section) {
+            all.add(portal);
+            bySection.computeIfAbsent(section, key -> new ArrayList<>(1)).add(portal);
+            UUID owner = portal.getOwnerUUID();
+            if (owner != null) {
+                byOwner.computeIfAbsent(owner, key -> new ArrayList<>(1)).add(portal);
+            }
+        }
+
+        void remove(PortalEntity portal, long section) {
+            all.remove(portal);
+            List<PortalEntity> inSection = bySection.get(section);
+            if (inSection != null && inSection.remove(portal) && inSection.isEmpty()) {
+                bySection.remove(section);
+            }
+            UUID owner = portal.getOwnerUUID();
+            if (owner != null) {
+                List<PortalEntity> owned = byOwner.get(owner);
+                if (owned != null && owned.remove(portal) && owned.isEmpty()) {
+                    byOwner.remove(owner);
+                }
+            }
+        }
+    }
+
+    /**
+     * Running minimum over candidate portals, restricted to the search cube so results
+     * match the old AABB query.
+     */
+    private static final class Nearest {
+        private final Vec3 position;
+        private final double searchRadius;
+        private PortalEntity portal;
+        private double distanceSqr = Double.MAX_VALUE;
+
+        Nearest(Vec3 position, double searchRadius) {
+            this.position = position;
+            this.searchRadius = searchRadius;
+        }
+
+        void offer(PortalEntity candidate) {
+            if (!candidate.isAlive()) return;
+            if (Math.abs(candidate.getX() - position.x) > searchRadius
+                    || Math.abs(candidate.getY() - position.y) > searchRadius
+                    || Math.abs(candidate.getZ() - position.z) > searchRadius) {
+                return;
+            }
+            double candidateDistanceSqr = candidate.position().distanceToSqr(position);
+            if (candidateDistanceSqr < distanceSqr) {
+                distanceSqr = candidateDistanceSqr;
+                portal = candidate;
+            }
+        }
+    }
+}
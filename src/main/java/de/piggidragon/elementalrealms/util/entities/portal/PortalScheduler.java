@@ -0,0 +1,181 @@
+package de.piggidragon.elementalrealms.util.entities.portal;
+
+import de.piggidragon.elementalrealms.registries.configs.PortalConfig;
+import de.piggidragon.elementalrealms.registries.entities.custom.misc.PortalEntity;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Central scheduler for server-side {@link PortalEntity} work.
+ *
+ * <p>Sleep/wake: a portal with no player within {@link PortalConfig#wakeRadius()} is
+ * {@link State#DORMANT} and skips particles and teleport checks; its proximity is only
+ * re-checked every {@link PortalConfig#dormantCheckIntervalTicks()} ticks. Awake portals
+ * re-check on the same cadence, so the common case costs one map lookup per tick.</p>
+ *
+ * <p>Despawns: timed portals sit in a hashed timing wheel keyed by the scheduler's own
+ * tick clock. Each server tick only visits the current slot, so expiry costs
+ * O(expired + slot collisions) instead of a countdown on every portal. Timeouts longer
+ * than one wheel revolution stay in their slot until their tick comes round.</p>
+ *
+ * <p>Portals track themselves in {@code onAddedToLevel} and untrack in
+ * {@code onRemovedFromLevel}, mirroring {@link PortalRegistry}. Server thread only.</p>
+ */
+public final class PortalScheduler {
+
+    public enum State {
+        AWAKE,
+        DORMANT
+    }
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final Reference2ObjectMap<PortalEntity, State> STATES = new Reference2ObjectOpenHashMap<>();
+    private static final int[] STATE_COUNTS = new int[State.values().length];
+    @SuppressWarnings("unchecked")
+    private static final List<Expiry>[] WHEEL = new List[WHEEL_SIZE];
+    private static long currentTick;
+    private static int pendingDespawns;
+
+    private PortalScheduler() {
+    }
+
+    /**
+     * Starts tracking {@code portal}. New portals start awake so one spawned next to a
+     * player teleports them without waiting for the first proximity check.
+     */
+    public static void track(PortalEntity portal) {
+        if (STATES.putIfAbsent(portal, State.AWAKE) == null) {
+            STATE_COUNTS[State.AWAKE.ordinal()]++;
+        }
+    }
+
+    public static void untrack(PortalEntity portal) {
+        State state = STATES.remove(portal);
+        if (state != null) {
+            STATE_COUNTS[state.ordinal()]--;
+        }
+    }
+
+    /**
+     * Whether {@code portal} should do its per-tick work this tick. Re-evaluates player
+     * proximity every {@link PortalConfig#dormantCheckIntervalTicks()} ticks and moves the
+     * portal between states accordingly. Untracked portals are always awake.
+     */
+    public static boolean isAwake(PortalEntity portal) {
+        State state = STATES.get(portal);
+        if (state == null) return true;
+        if (portal.tickCount % PortalConfig.dormantCheckIntervalTicks() != 0) {
+            return state == State.AWAKE;
+        }
+
+        State next = hasPlayerNearby(portal) ? State.AWAKE : State.DORMANT;
+        if (next != state) {
+            STATES.put(portal, next);
+            STATE_COUNTS[state.ordinal()]--;
+            STATE_COUNTS[next.ordinal()]++;
+        }
+        return next == State.AWAKE;
+    }
+
+    private static boolean hasPlayerNearby(PortalEntity portal) {
+        double wakeRadius = PortalConfig.wakeRadius();
+        double wakeRadiusSqr = wakeRadius * wakeRadius;
+        for (Player player : portal.level().players()) {
+            if (!player.isSpectator() && portal.distanceToSqr(player) <= wakeRadiusSqr) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Schedules {@code portal} to despawn {@code ticks} ticks from now. Returns the
+     * scheduler tick it was filed under, which the portal hands back to
+     * {@link #cancelDespawn} and uses to compute its remaining lifetime on save.
+     */
+    public static long scheduleDespawn(PortalEntity portal, int ticks) {
+        long dueTick = currentTick + Math.max(1, ticks);
+        int slot = (int) (dueTick & WHEEL_MASK);
+        List<Expiry> bucket = WHEEL[slot];
+        if (bucket == null) {
+            bucket = WHEEL[slot] = new ArrayList<>(2);
+        }
+        bucket.add(new Expiry(portal, dueTick));
+        pendingDespawns++;
+        return dueTick;
+    }
+
+    public static void cancelDespawn(PortalEntity portal, long dueTick) {
+        List<Expiry> bucket = WHEEL[(int) (dueTick & WHEEL_MASK)];
+        if (bucket == null) return;
+        for (Iterator<Expiry> it = bucket.iterator(); it.hasNext(); ) {
+            Expiry expiry = it.next();
+            if (expiry.portal == portal && expiry.tick == dueTick) {
+                it.remove();
+                pendingDespawns--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Advances the clock by one tick and despawns every portal due on it. Called once per
+     * server tick from {@code ServerTickHandler}.
+     */
+    public static void tick() {
+        currentTick++;
+        List<Expiry> bucket = WHEEL[(int) (currentTick & WHEEL_MASK)];
+        if (bucket == null || bucket.isEmpty()) return;
+
+        // Collect first: despawning discards the portal, which re-enters this class
+        // through onRemovedFromLevel.
+        List<PortalEntity> due = null;
+        for (Iterator<Expiry> it = bucket.iterator(); it.hasNext(); ) {
+            Expiry expiry = it.next();
+            if (expiry.tick > currentTick) continue;
+            it.remove();
+            pendingDespawns--;
+            if (due == null) due = new ArrayList<>(1);
+            due.add(expiry.portal);
+        }
+        if (due == null) return;
+        for (PortalEntity portal : due) {
+            portal.onDespawnTimeout();
+        }
+    }
+
+    /**
+     * Current scheduler tick. Only meaningful relative to values returned by
+     * {@link #scheduleDespawn}.
+     */
+    public static long now() {
+        return currentTick;
+    }
+
+    public static int count(State state) {
+        return STATE_COUNTS[state.ordinal()];
+    }
+
+    public static int pendingDespawns() {
+        return pendingDespawns;
+    }
+
+    public static void clear() {
+        STATES.clear();
+        Arrays.fill(STATE_COUNTS, 0);
+        Arrays.fill(WHEEL, null);
+        pendingDespawns = 0;
+        currentTick = 0;
+    }
+
+    private record Expiry(PortalEntity portal, long tick) {
+    }
+}
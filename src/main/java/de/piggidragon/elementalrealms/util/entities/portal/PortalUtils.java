@@ -4,15 +4,11 @@ import de.piggidragon.elementalrealms.registries.entities.custom.misc.PortalEnti
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.List;
-
 /**
  * Helpers for portal entities and worldgen validation.
  */
@@ -29,29 +25,13 @@ public final class PortalUtils {
         return state.getFluidState().isEmpty();
     }
 
+    /**
+     * Nearest live portal within a {@code searchRadius} cube around {@code position}.
+     * Served from {@link PortalRegistry}, so the cost scales with nearby portals rather
+     * than with every entity in the search volume.
+     */
     public static PortalEntity findNearestPortal(ServerLevel level, Vec3 position, double searchRadius) {
-        AABB searchArea = new AABB(
-                position.x - searchRadius, position.y - searchRadius, position.z - searchRadius,
-                position.x + searchRadius, position.y + searchRadius, position.z + searchRadius
-        );
-
-        List<PortalEntity> portals = level.getEntitiesOfClass(
-                PortalEntity.class,
-                searchArea,
-                Entity::isAlive
-        );
-
-        PortalEntity nearestPortal = null;
-        double nearestDistance = Double.MAX_VALUE;
-
-        for (PortalEntity portal : portals) {
-            double distance = portal.position().distanceTo(position);
-            if (distance < nearestDistance) {
-                nearestDistance = distance;
-                nearestPortal = portal;
-            }
-        }
-        return nearestPortal;
+        return PortalRegistry.findNearest(level.dimension(), position, searchRadius);
     }
 
     public static boolean isVanilla(ResourceKey<Level> level) {
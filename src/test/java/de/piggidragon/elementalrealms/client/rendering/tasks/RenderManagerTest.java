@@ -0,0 +1,132 @@
+package de.piggidragon.elementalrealms.client.rendering.tasks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RenderManagerTest {
+
+    private static final long BUDGET_NANOS = 100_000L;
+
+    private final List<TickTask> registered = new ArrayList<>();
+
+    @AfterEach
+    void removeTasks() {
+        registered.forEach(RenderManager::requestRemoveTickTask);
+        RenderManager.removeRequestedTasks();
+    }
+
+    @Test
+    void cosmeticTasksAdvanceWhenNormalWorkExhaustsBudget() {
+        register(new SpinTask(TickTask.Priority.NORMAL, BUDGET_NANOS * 2));
+        CountingTask[] cosmetic = new CountingTask[4];
+        for (int i = 0; i < cosmetic.length; i++) {
+            cosmetic[i] = register(new CountingTask());
+        }
+
+        for (int tick = 0; tick < cosmetic.length; tick++) {
+            RenderManager.tickAll(BUDGET_NANOS);
+        }
+
+        // One cosmetic task per tick, round-robin from the cursor.
+        for (CountingTask task : cosmetic) {
+            assertEquals(1, task.ticks);
+        }
+    }
+
+    @Test
+    void deferredCosmeticTasksCatchUpOnMissedTicks() {
+        register(new SpinTask(TickTask.Priority.NORMAL, BUDGET_NANOS * 2));
+        CountingTask[] cosmetic = new CountingTask[4];
+        for (int i = 0; i < cosmetic.length; i++) {
+            cosmetic[i] = register(new CountingTask());
+        }
+
+        int ticks = cosmetic.length * 3;
+        for (int tick = 0; tick < ticks; tick++) {
+            RenderManager.tickAll(BUDGET_NANOS);
+        }
+
+        // Each task runs every fourth tick and is told it missed the three in between.
+        for (CountingTask task : cosmetic) {
+            assertEquals(3, task.ticks);
+            assertEquals(cosmetic.length, task.lastElapsed);
+        }
+    }
+
+    @Test
+    void saturatedTicksCountAsOverrunsAndDeferrals() {
+        register(new SpinTask(TickTask.Priority.NORMAL, BUDGET_NANOS * 2));
+        register(new CountingTask());
+        register(new CountingTask());
+
+        RenderManager.TickStats before = RenderManager.tickStats();
+        RenderManager.tickAll(BUDGET_NANOS);
+        RenderManager.TickStats after = RenderManager.tickStats();
+
+        assertEquals(before.overrunTicks() + 1, after.overrunTicks());
+        assertEquals(before.deferredTasks() + 1, after.deferredTasks());
+    }
+
+    @Test
+    void unlimitedBudgetRunsEveryCosmeticTask() {
+        register(new SpinTask(TickTask.Priority.NORMAL, BUDGET_NANOS * 2));
+        CountingTask first = register(new CountingTask());
+        CountingTask second = register(new CountingTask());
+
+        RenderManager.tickAll(Long.MAX_VALUE);
+
+        assertEquals(1, first.ticks);
+        assertEquals(1, second.ticks);
+    }
+
+    private <T extends TickTask> T register(T task) {
+        RenderManager.addTickTask(task);
+        registered.add(task);
+        return task;
+    }
+
+    private static final class CountingTask implements TickTask {
+        private int ticks;
+        private int lastElapsed;
+
+        @Override
+        public void tick(int elapsedTicks) {
+            lastElapsed = elapsedTicks;
+            tick();
+        }
+
+        @Override
+        public void tick() {
+            ticks++;
+        }
+
+        @Override
+        public Priority getPriority() {
+            return Priority.COSMETIC;
+        }
+    }
+
+    /**
+     * Busy-waits so the pass reliably takes longer than the budget regardless of clock
+     * granularity.
+     */
+    private record SpinTask(Priority priority, long nanos) implements TickTask {
+        @Override
+        public void tick() {
+            long end = System.nanoTime() + nanos;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        }
+
+        @Override
+        public Priority getPriority() {
+            return priority;
+        }
+    }
+}
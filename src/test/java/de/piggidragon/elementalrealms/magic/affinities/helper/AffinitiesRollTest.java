@@ -0,0 +1,58 @@
+package de.piggidragon.elementalrealms.magic.affinities.helper;
+
+import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AffinitiesRollTest {
+
+    private static final int SEEDS = 10_000;
+
+    private static final AffinitiesRoll.Params DEFAULTS = new AffinitiesRoll.Params(10, 80, 15, 50, 50, 80, 5, 3.0);
+    // Every stage fires on most rolls, so the deviant and fallback branches are exercised.
+    private static final AffinitiesRoll.Params GREEDY = new AffinitiesRoll.Params(100, 80, 50, 100, 90, 80, 12, 1.0);
+
+    @Test
+    void freshRollsMatchListBasedPicker() {
+        assertMatchesLegacy(AffinityState.EMPTY, DEFAULTS);
+        assertMatchesLegacy(AffinityState.EMPTY, GREEDY);
+    }
+
+    @Test
+    void rerollsAgainstHeldAffinitiesMatchListBasedPicker() {
+        List<Affinity> elementals = Affinity.getAllElemental();
+        AffinityState one = AffinityState.EMPTY.with(elementals.get(1), 100);
+        AffinityState allButOne = AffinityState.EMPTY;
+        for (int i = 0; i < elementals.size() - 1; i++) {
+            allButOne = allButOne.with(elementals.get(i), 100);
+        }
+        AffinityState all = allButOne.with(elementals.getLast(), 100);
+
+        for (AffinityState prior : List.of(one, allButOne, all)) {
+            assertMatchesLegacy(prior, DEFAULTS);
+            assertMatchesLegacy(prior, GREEDY);
+        }
+    }
+
+    /**
+     * Same seed, same result, and the random source left in the same state, so the two
+     * pickers consumed exactly the same draws.
+     */
+    private static void assertMatchesLegacy(AffinityState prior, AffinitiesRoll.Params params) {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            XoroshiroRandomSource current = new XoroshiroRandomSource(seed);
+            XoroshiroRandomSource legacy = new XoroshiroRandomSource(seed);
+
+            AffinityState rolled = AffinitiesRoll.roll(current, prior, params);
+            AffinityState expected = AffinityState.of(LegacyAffinitiesRoll.roll(legacy, prior, params));
+
+            assertEquals(expected, rolled, "seed " + seed);
+            assertEquals(legacy.nextLong(), current.nextLong(), "random state after seed " + seed);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package de.piggidragon.elementalrealms.magic.affinities.helper;
+
+import de.piggidragon.elementalrealms.magic.affinities.Affinity;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityState;
+import de.piggidragon.elementalrealms.magic.affinities.AffinityType;
+import net.minecraft.util.RandomSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Frozen copy of the list-based roll {@link AffinitiesRoll} used before candidate pools
+ * became bitmasks, with config reads swapped for {@link AffinitiesRoll.Params}. The
+ * reference for {@link AffinitiesRollTest} and {@code AffinitiesRollBenchmark}; don't
+ * change it along with {@link AffinitiesRoll}.
+ */
+final class LegacyAffinitiesRoll {
+
+    private LegacyAffinitiesRoll() {
+    }
+
+    static Map<Affinity, Integer> roll(RandomSource random, AffinityState prior, AffinitiesRoll.Params params) {
+        Map<Affinity, Integer> result = new HashMap<>();
+
+        Affinity guaranteed = rollFreshElemental(prior, random);
+        if (guaranteed == Affinity.VOID) {
+            return result;
+        }
+        result.put(guaranteed, 100);
+
+        Affinity deviant = guaranteed.getDeviant();
+        if (deviant != Affinity.VOID
+                && !result.containsKey(deviant)
+                && chance(random, params.deviantPartialChancePercent())) {
+            int completion = rollCompletion(random, params.deviantMaxCompletionPercent(), params.partialCompletionSlope());
+            if (completion > 0) {
+                result.put(deviant, completion);
+            }
+        }
+
+        int continueChance = params.elementalContinueChanceStartPercent();
+        for (int i = 0; i < params.elementalMaxIterations(); i++) {
+            if (!chance(random, continueChance)) {
+                break;
+            }
+            Affinity candidate = pickPartialCandidate(result, random, params.partialDeviantWeightPercent());
+            if (candidate == Affinity.VOID) {
+                break;
+            }
+            int completion = rollCompletion(random, params.elementalMaxCompletionPercent(), params.partialCompletionSlope());
+            if (completion > 0) {
+                result.put(candidate, completion);
+            }
+            continueChance = Math.max(1, continueChance * params.elementalContinueChanceDecayPercent() / 100);
+        }
+        return result;
+    }
+
+    private static Affinity rollFreshElemental(AffinityState prior, RandomSource random) {
+        List<Affinity> available = Affinity.getAllElemental().stream()
+                .filter(a -> !prior.has(a))
+                .toList();
+        if (available.isEmpty()) {
+            return Affinity.VOID;
+        }
+        return available.get(random.nextInt(available.size()));
+    }
+
+    private static Affinity pickPartialCandidate(Map<Affinity, Integer> result, RandomSource random, int deviantWeightPercent) {
+        List<Affinity> availableElementals = Affinity.getAllElemental().stream()
+                .filter(a -> !result.containsKey(a))
+                .toList();
+
+        List<Affinity> eligibleDeviants = Affinity.getAllElemental().stream()
+                .filter(a -> result.getOrDefault(a, 0) >= 100)
+                .map(Affinity::getDeviant)
+                .filter(d -> d != Affinity.VOID)
+                .filter(d -> !result.containsKey(d))
+                .filter(d -> d.getType() == AffinityType.DEVIANT)
+                .toList();
+
+        if (availableElementals.isEmpty() && eligibleDeviants.isEmpty()) {
+            return Affinity.VOID;
+        }
+        if (availableElementals.isEmpty()) {
+            return eligibleDeviants.get(random.nextInt(eligibleDeviants.size()));
+        }
+        if (eligibleDeviants.isEmpty()) {
+            return availableElementals.get(random.nextInt(availableElementals.size()));
+        }
+        boolean pickDeviant = chance(random, deviantWeightPercent);
+        if (pickDeviant) {
+            return eligibleDeviants.get(random.nextInt(eligibleDeviants.size()));
+        }
+        return availableElementals.get(random.nextInt(availableElementals.size()));
+    }
+
+    private static int rollCompletion(RandomSource random, int maxCompletion, double slope) {
+        double u = random.nextDouble();
+        double skewed = Math.pow(u, slope);
+        int completion = (int) (skewed * maxCompletion);
+        if (completion <= 0) {
+            completion = 1;
+        }
+        return Math.min(completion, maxCompletion);
+    }
+
+    private static boolean chance(RandomSource random, int probabilityPercent) {
+        return random.nextInt(100) < probabilityPercent;
+    }
+}